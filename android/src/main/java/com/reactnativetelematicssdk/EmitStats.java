@@ -0,0 +1,49 @@
+package com.reactnativetelematicssdk;
+
+import com.facebook.react.bridge.WritableMap;
+import com.facebook.react.bridge.WritableNativeMap;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Location event throughput and emit cost since the last reset, exposed through getEventStats().
+// Fixes are counted when posted to the dispatcher ("enqueued"); what JS actually received is
+// the location lane's delivered count, which is lower when pending fixes are coalesced.
+// Emit cost covers the SDK callback side only; payloads are written later, at delivery.
+class EmitStats {
+
+  private final AtomicLong startedAtMs = new AtomicLong(System.currentTimeMillis());
+  private final AtomicLong locationEnqueued = new AtomicLong();
+  private final AtomicLong locationThrottled = new AtomicLong();
+  private final AtomicLong locationEmitNanos = new AtomicLong();
+
+  void recordLocationEnqueued(long nanos) {
+    locationEnqueued.incrementAndGet();
+    locationEmitNanos.addAndGet(nanos);
+  }
+
+  void recordLocationThrottled() {
+    locationThrottled.incrementAndGet();
+  }
+
+  void reset() {
+    startedAtMs.set(System.currentTimeMillis());
+    locationEnqueued.set(0);
+    locationThrottled.set(0);
+    locationEmitNanos.set(0);
+  }
+
+  WritableMap toWritableMap(TrackingProfile profile, long locationDelivered) {
+    long enqueued = locationEnqueued.get();
+    long elapsedMs = Math.max(1, System.currentTimeMillis() - startedAtMs.get());
+
+    WritableMap map = new WritableNativeMap();
+    map.putString("profile", profile.jsName);
+    map.putDouble("elapsedMs", elapsedMs);
+    map.putDouble("locationEventsEnqueued", enqueued);
+    map.putDouble("locationEventsDelivered", locationDelivered);
+    map.putDouble("locationEventsThrottled", locationThrottled.get());
+    map.putDouble("locationEventsPerSecond", locationDelivered * 1000.0 / elapsedMs);
+    map.putDouble("averageEmitMicros", enqueued == 0 ? 0 : locationEmitNanos.get() / 1000.0 / enqueued);
+    return map;
+  }
+}
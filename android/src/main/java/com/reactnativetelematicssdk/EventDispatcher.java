@@ -0,0 +1,181 @@
+package com.reactnativetelematicssdk;
+
+import com.facebook.react.bridge.ReactApplicationContext;
+import com.facebook.react.bridge.WritableMap;
+import com.facebook.react.bridge.WritableNativeMap;
+import com.facebook.react.modules.core.DeviceEventManagerModule;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Delivers events to JS through prioritized lanes on the UI queue thread.
+//
+// Instead of one runOnUiQueueThread post per event, callbacks enqueue into a lane and a
+// single drain task is scheduled. Each drain empties CRITICAL before every STANDARD event,
+// and sends only the newest pending LOCATION event last, so alerts never wait behind a
+// burst of location fixes.
+//
+// Payloads are written when an event is delivered. Location events are recycled: a replaced
+// or delivered one is kept as the spare that obtainLocationEvent() hands out next, so a
+// steady stream of fixes allocates no event objects and only builds maps for fixes JS gets.
+class EventDispatcher {
+
+  enum Lane {
+    // Tracking state, speed violations and accident-related events.
+    CRITICAL("critical"),
+    // Events that must not be dropped but are not time-critical (batches, trip summaries).
+    STANDARD("standard"),
+    // High-rate fixes; a newer fix replaces one that has not been sent yet.
+    LOCATION("location");
+
+    final String jsName;
+
+    Lane(String jsName) {
+      this.jsName = jsName;
+    }
+  }
+
+  private final ReactApplicationContext reactContext;
+  private final Queue<TelematicsEvent> critical = new ConcurrentLinkedQueue<>();
+  private final Queue<TelematicsEvent> standard = new ConcurrentLinkedQueue<>();
+  private final AtomicReference<TelematicsEvent.LocationChanged> location = new AtomicReference<>();
+  private final AtomicReference<TelematicsEvent.LocationChanged> spareLocation = new AtomicReference<>();
+  private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+  private final LaneStats[] stats = new LaneStats[Lane.values().length];
+  private final Runnable drain = this::drain;
+  // Only touched from the UI queue thread, so the lookup is cached without synchronization.
+  private DeviceEventManagerModule.RCTDeviceEventEmitter eventEmitter = null;
+
+  EventDispatcher(ReactApplicationContext reactContext) {
+    this.reactContext = reactContext;
+    for (Lane lane : Lane.values()) {
+      stats[lane.ordinal()] = new LaneStats();
+    }
+  }
+
+  // Posts an event whose payload is already built.
+  void post(Lane lane, String eventName, Object payload) {
+    post(lane, new TelematicsEvent.Prebuilt(eventName, payload));
+  }
+
+  void post(Lane lane, TelematicsEvent event) {
+    event.enqueuedAtNanos = System.nanoTime();
+    switch (lane) {
+      case CRITICAL:
+        critical.add(event);
+        break;
+      case STANDARD:
+        standard.add(event);
+        break;
+      case LOCATION:
+        throw new IllegalArgumentException("Location events are posted with postLocation()");
+    }
+    scheduleDrain();
+  }
+
+  // Returns an event for the next fix, reusing the spare when there is one.
+  TelematicsEvent.LocationChanged obtainLocationEvent() {
+    TelematicsEvent.LocationChanged event = spareLocation.getAndSet(null);
+    return event != null ? event : new TelematicsEvent.LocationChanged();
+  }
+
+  // Takes ownership of an event from obtainLocationEvent(); the caller must not touch it again.
+  void postLocation(TelematicsEvent.LocationChanged event) {
+    event.enqueuedAtNanos = System.nanoTime();
+    TelematicsEvent.LocationChanged replaced = location.getAndSet(event);
+    if (replaced != null) {
+      stats[Lane.LOCATION.ordinal()].coalesced.incrementAndGet();
+      spareLocation.set(replaced);
+    }
+    scheduleDrain();
+  }
+
+  private void scheduleDrain() {
+    if (drainScheduled.compareAndSet(false, true)) {
+      reactContext.runOnUiQueueThread(drain);
+    }
+  }
+
+  private void drain() {
+    // Cleared before reading so events posted during the drain schedule another one.
+    drainScheduled.set(false);
+
+    TelematicsEvent event;
+    while (true) {
+      if ((event = critical.poll()) != null) {
+        deliver(Lane.CRITICAL, event);
+      } else if ((event = standard.poll()) != null) {
+        deliver(Lane.STANDARD, event);
+      } else {
+        break;
+      }
+    }
+    TelematicsEvent.LocationChanged locationEvent = location.getAndSet(null);
+    if (locationEvent != null) {
+      deliver(Lane.LOCATION, locationEvent);
+      spareLocation.set(locationEvent);
+    }
+  }
+
+  private void deliver(Lane lane, TelematicsEvent event) {
+    if (eventEmitter == null) {
+      eventEmitter = reactContext.getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class);
+    }
+    eventEmitter.emit(event.name, event.write());
+    stats[lane.ordinal()].record(System.nanoTime() - event.enqueuedAtNanos);
+  }
+
+  long delivered(Lane lane) {
+    return stats[lane.ordinal()].delivered.get();
+  }
+
+  void resetStats() {
+    for (LaneStats laneStats : stats) {
+      laneStats.reset();
+    }
+  }
+
+  // Per-lane delivery counts and latency from enqueue in the SDK callback to emit.
+  WritableMap statsToWritableMap() {
+    WritableMap lanes = new WritableNativeMap();
+    for (Lane lane : Lane.values()) {
+      LaneStats laneStats = stats[lane.ordinal()];
+      long delivered = laneStats.delivered.get();
+
+      WritableMap map = new WritableNativeMap();
+      map.putDouble("delivered", delivered);
+      map.putDouble("coalesced", laneStats.coalesced.get());
+      map.putDouble("averageLatencyMicros",
+        delivered == 0 ? 0 : laneStats.totalLatencyNanos.get() / 1000.0 / delivered);
+      map.putDouble("maxLatencyMicros", laneStats.maxLatencyNanos.get() / 1000.0);
+      lanes.putMap(lane.jsName, map);
+    }
+    return lanes;
+  }
+
+  private static final class LaneStats {
+    final AtomicLong delivered = new AtomicLong();
+    final AtomicLong coalesced = new AtomicLong();
+    final AtomicLong totalLatencyNanos = new AtomicLong();
+    final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    void record(long latencyNanos) {
+      delivered.incrementAndGet();
+      totalLatencyNanos.addAndGet(latencyNanos);
+      long max;
+      do {
+        max = maxLatencyNanos.get();
+      } while (latencyNanos > max && !maxLatencyNanos.compareAndSet(max, latencyNanos));
+    }
+
+    void reset() {
+      delivered.set(0);
+      coalesced.set(0);
+      totalLatencyNanos.set(0);
+      maxLatencyNanos.set(0);
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package com.reactnativetelematicssdk;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Reference counts of JS subscribers per event name.
+// NativeEventEmitter reports additions by name but removals only as a count,
+// so removals by name arrive separately through removeEventListener.
+//
+// Subscriptions change on TurboModule call threads while SDK callback threads
+// read them on every event, so the counts live in an immutable snapshot that is
+// swapped with compare-and-set: readers never block and always see a complete state.
+class EventSubscriptions {
+
+  private static final State EMPTY = new State(Collections.emptyMap(), 0);
+
+  private final AtomicReference<State> state = new AtomicReference<>(EMPTY);
+
+  void add(String eventName) {
+    State current;
+    State next;
+    do {
+      current = state.get();
+      Map<String, Integer> counts = new HashMap<>(current.counts);
+      Integer count = counts.get(eventName);
+      counts.put(eventName, count == null ? 1 : count + 1);
+      next = new State(counts, current.total + 1);
+    } while (!state.compareAndSet(current, next));
+  }
+
+  void remove(String eventName) {
+    State current;
+    State next;
+    do {
+      current = state.get();
+      Integer count = current.counts.get(eventName);
+      if (count == null) return;
+      Map<String, Integer> counts = new HashMap<>(current.counts);
+      if (count <= 1) {
+        counts.remove(eventName);
+      } else {
+        counts.put(eventName, count - 1);
+      }
+      next = new State(counts, current.total);
+    } while (!state.compareAndSet(current, next));
+  }
+
+  // Once the emitter reports no subscribers at all, drop any per-name counts
+  // that were never released by name (e.g. subscriptions made on the raw emitter).
+  void removeTotal(int count) {
+    State current;
+    State next;
+    do {
+      current = state.get();
+      int total = Math.max(0, current.total - count);
+      next = total == 0 ? EMPTY : new State(current.counts, total);
+    } while (!state.compareAndSet(current, next));
+  }
+
+  void clear() {
+    state.set(EMPTY);
+  }
+
+  boolean has(String eventName) {
+    return state.get().counts.containsKey(eventName);
+  }
+
+  private static final class State {
+    final Map<String, Integer> counts;
+    final int total;
+
+    State(Map<String, Integer> counts, int total) {
+      this.counts = counts;
+      this.total = total;
+    }
+  }
+}
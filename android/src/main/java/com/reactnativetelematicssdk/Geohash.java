@@ -0,0 +1,49 @@
+package com.reactnativetelematicssdk;
+
+// Minimal geohash encoder used for trip start/end cells.
+final class Geohash {
+
+  private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+  private Geohash() {
+  }
+
+  static String encode(double latitude, double longitude, int precision) {
+    double minLat = -90, maxLat = 90;
+    double minLon = -180, maxLon = 180;
+    char[] hash = new char[precision];
+    boolean evenBit = true;
+    int bit = 0;
+    int index = 0;
+
+    for (int i = 0; i < precision; ) {
+      if (evenBit) {
+        double mid = (minLon + maxLon) / 2;
+        if (longitude >= mid) {
+          index = (index << 1) | 1;
+          minLon = mid;
+        } else {
+          index = index << 1;
+          maxLon = mid;
+        }
+      } else {
+        double mid = (minLat + maxLat) / 2;
+        if (latitude >= mid) {
+          index = (index << 1) | 1;
+          minLat = mid;
+        } else {
+          index = index << 1;
+          maxLat = mid;
+        }
+      }
+      evenBit = !evenBit;
+
+      if (++bit == 5) {
+        hash[i++] = BASE32[index];
+        bit = 0;
+        index = 0;
+      }
+    }
+    return new String(hash);
+  }
+}
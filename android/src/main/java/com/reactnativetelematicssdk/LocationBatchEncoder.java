@@ -0,0 +1,87 @@
+package com.reactnativetelematicssdk;
+
+import android.location.Location;
+import android.util.Base64;
+
+import androidx.annotation.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+// Packs location fixes into one binary buffer, decoded on the JS side by decodeLocationBatch.
+//
+// Layout (little-endian):
+//   int32   version (1)
+//   int32   count
+//   float64 timestamp of the first fix, ms since epoch
+//   int32   latitude of the first fix, degrees * 1e7
+//   int32   longitude of the first fix, degrees * 1e7
+//   then count - 1 records of int32 dLat, int32 dLon, int32 dTimeMs, each relative to the previous fix.
+class LocationBatchEncoder {
+
+  static final int VERSION = 1;
+  private static final int HEADER_BYTES = 24;
+  private static final int RECORD_BYTES = 12;
+  static final double FIXED_POINT_SCALE = 1e7;
+
+  private int capacity = 0;
+  private int count = 0;
+  private int[] latitudes = new int[0];
+  private int[] longitudes = new int[0];
+  private long[] timestamps = new long[0];
+
+  // Sets the number of fixes per batch; 0 disables batching and drops buffered fixes.
+  synchronized void setCapacity(int capacity) {
+    this.capacity = Math.max(0, capacity);
+    this.count = 0;
+    this.latitudes = new int[this.capacity];
+    this.longitudes = new int[this.capacity];
+    this.timestamps = new long[this.capacity];
+  }
+
+  synchronized boolean isEnabled() {
+    return capacity > 0;
+  }
+
+  // Returns the encoded batch once the buffer is full, otherwise null.
+  @Nullable
+  synchronized String add(Location location) {
+    if (capacity == 0) return null;
+
+    latitudes[count] = (int) Math.round(location.getLatitude() * FIXED_POINT_SCALE);
+    longitudes[count] = (int) Math.round(location.getLongitude() * FIXED_POINT_SCALE);
+    timestamps[count] = location.getTime();
+    count++;
+    return count == capacity ? flush() : null;
+  }
+
+  // Encodes and clears buffered fixes; returns null when the buffer is empty.
+  @Nullable
+  synchronized String flush() {
+    if (count == 0) return null;
+
+    String encoded = encode(latitudes, longitudes, timestamps, count);
+    count = 0;
+    return encoded;
+  }
+
+  // Encodes the first count fixes of the given fixed-point arrays.
+  static String encode(int[] latitudes, int[] longitudes, long[] timestamps, int count) {
+    ByteBuffer buffer = ByteBuffer
+      .allocate(HEADER_BYTES + Math.max(0, count - 1) * RECORD_BYTES)
+      .order(ByteOrder.LITTLE_ENDIAN);
+    buffer.putInt(VERSION);
+    buffer.putInt(count);
+    if (count > 0) {
+      buffer.putDouble(timestamps[0]);
+      buffer.putInt(latitudes[0]);
+      buffer.putInt(longitudes[0]);
+    }
+    for (int i = 1; i < count; i++) {
+      buffer.putInt(latitudes[i] - latitudes[i - 1]);
+      buffer.putInt(longitudes[i] - longitudes[i - 1]);
+      buffer.putInt((int) (timestamps[i] - timestamps[i - 1]));
+    }
+    return Base64.encodeToString(buffer.array(), Base64.NO_WRAP);
+  }
+}
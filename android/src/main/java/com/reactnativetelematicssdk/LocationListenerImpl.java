@@ -6,14 +6,15 @@ import com.telematicssdk.tracking.LocationListener;
 
 public class LocationListenerImpl implements LocationListener {
 
-  private final TelematicsSdkModule module;
+  private final TrackingSource.Listener listener;
 
-  public LocationListenerImpl(TelematicsSdkModule module) {
-    this.module = module;
+  public LocationListenerImpl(TrackingSource.Listener listener) {
+    this.listener = listener;
   }
 
   @Override
   public void onLocationChanged(@Nullable Location location) {
-    module.emitLocationChanged(location);
+    if (location == null) return;
+    listener.onLocationChanged(location);
   }
 }
@@ -0,0 +1,120 @@
+package com.reactnativetelematicssdk;
+
+import android.location.Location;
+
+import androidx.annotation.Nullable;
+
+// Rolling window of the most recent fixes, kept in fixed-size primitive ring arrays so memory
+// stays constant however long tracking runs. A snapshot copies the fixes of the last
+// windowMs into one packed location batch for the accident context event.
+//
+// It also flags harsh decelerations between consecutive fixes, the local stand-in for an
+// accident or harsh-event signal, since the SDK does not report those to the host app.
+class PreEventBuffer {
+
+  // Enough for a 60 s window at 50 Hz.
+  private static final int CAPACITY = 3000;
+  // ~0.45 g, a common threshold for harsh braking.
+  private static final double HARSH_DECELERATION_MS2 = 4.4;
+  // Longer gaps between fixes make the speed difference meaningless.
+  private static final long MAX_DECELERATION_GAP_MS = 3000;
+  private static final long TRIGGER_COOLDOWN_MS = 30_000;
+
+  static final class Snapshot {
+    final long windowMs;
+    final String fixes;
+    final int fixCount;
+    final double maxSpeedMs;
+    final double lastSpeedMs;
+
+    Snapshot(long windowMs, String fixes, int fixCount, double maxSpeedMs, double lastSpeedMs) {
+      this.windowMs = windowMs;
+      this.fixes = fixes;
+      this.fixCount = fixCount;
+      this.maxSpeedMs = maxSpeedMs;
+      this.lastSpeedMs = lastSpeedMs;
+    }
+  }
+
+  private final int[] latitudes = new int[CAPACITY];
+  private final int[] longitudes = new int[CAPACITY];
+  private final long[] timestamps = new long[CAPACITY];
+  private final float[] speeds = new float[CAPACITY];
+  private long windowMs = 0;
+  private int head = 0;
+  private int size = 0;
+  private long lastTriggerMs = Long.MIN_VALUE / 2;
+
+  // Sets the window length; 0 disables the buffer and drops buffered fixes.
+  synchronized void setWindowMs(long windowMs) {
+    this.windowMs = Math.max(0, windowMs);
+    size = 0;
+    head = 0;
+  }
+
+  synchronized boolean isEnabled() {
+    return windowMs > 0;
+  }
+
+  // Stores the fix; returns true when it completes a harsh deceleration outside the cooldown.
+  synchronized boolean add(Location location) {
+    if (windowMs == 0) return false;
+
+    long timeMs = location.getTime();
+    float speed = location.hasSpeed() ? location.getSpeed() : -1;
+    boolean harsh = false;
+    if (size > 0 && speed >= 0) {
+      int previous = (head - 1 + CAPACITY) % CAPACITY;
+      long dtMs = timeMs - timestamps[previous];
+      if (speeds[previous] >= 0 && dtMs > 0 && dtMs <= MAX_DECELERATION_GAP_MS) {
+        double deceleration = (speeds[previous] - speed) * 1000.0 / dtMs;
+        harsh = deceleration >= HARSH_DECELERATION_MS2
+          && timeMs - lastTriggerMs >= TRIGGER_COOLDOWN_MS;
+      }
+    }
+
+    latitudes[head] = (int) Math.round(location.getLatitude() * LocationBatchEncoder.FIXED_POINT_SCALE);
+    longitudes[head] = (int) Math.round(location.getLongitude() * LocationBatchEncoder.FIXED_POINT_SCALE);
+    timestamps[head] = timeMs;
+    speeds[head] = speed;
+    head = (head + 1) % CAPACITY;
+    size = Math.min(size + 1, CAPACITY);
+
+    if (harsh) {
+      lastTriggerMs = timeMs;
+    }
+    return harsh;
+  }
+
+  // Copies the fixes of the last window, oldest first; null when the buffer is empty.
+  @Nullable
+  synchronized Snapshot snapshot() {
+    if (size == 0) return null;
+
+    int newest = (head - 1 + CAPACITY) % CAPACITY;
+    long fromMs = timestamps[newest] - windowMs;
+    int count = 0;
+    while (count < size && timestamps[(newest - count + CAPACITY) % CAPACITY] >= fromMs) {
+      count++;
+    }
+
+    int[] lat = new int[count];
+    int[] lon = new int[count];
+    long[] time = new long[count];
+    double maxSpeed = 0;
+    for (int i = 0; i < count; i++) {
+      int index = (newest - count + 1 + i + CAPACITY) % CAPACITY;
+      lat[i] = latitudes[index];
+      lon[i] = longitudes[index];
+      time[i] = timestamps[index];
+      maxSpeed = Math.max(maxSpeed, speeds[index]);
+    }
+    return new Snapshot(
+      windowMs,
+      LocationBatchEncoder.encode(lat, lon, time, count),
+      count,
+      maxSpeed,
+      Math.max(0, speeds[newest])
+    );
+  }
+}
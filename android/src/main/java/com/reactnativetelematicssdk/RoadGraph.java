@@ -0,0 +1,180 @@
+package com.reactnativetelematicssdk;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Road segments loaded from a local file and indexed in a uniform lat/lon grid.
+//
+// File layout (little-endian):
+//   int32 magic ("RSEG")
+//   int32 version (1)
+//   int32 count
+//   then count records of int64 id, float32 lat1, lon1, lat2, lon2, float32 speedLimitKmH.
+final class RoadGraph {
+
+  static final int MAGIC = 0x47455352; // "RSEG" read as little-endian int32
+  static final int VERSION = 1;
+  private static final int HEADER_BYTES = 12;
+  private static final int RECORD_BYTES = 28;
+  // ~220 m of latitude; segments are registered in every cell they cross.
+  static final double CELL_DEGREES = 0.002;
+  // ~900 km of straight road; longer segments (or ones wrapping the antimeridian) are rejected.
+  static final int MAX_CELLS_PER_SEGMENT = 4096;
+
+  final int size;
+  final long[] ids;
+  final double[] lat1;
+  final double[] lon1;
+  final double[] lat2;
+  final double[] lon2;
+  final float[] speedLimits;
+  private final Map<Long, int[]> cells;
+
+  private RoadGraph(long[] ids, double[] lat1, double[] lon1, double[] lat2, double[] lon2,
+      float[] speedLimits, Map<Long, int[]> cells) {
+    this.size = ids.length;
+    this.ids = ids;
+    this.lat1 = lat1;
+    this.lon1 = lon1;
+    this.lat2 = lat2;
+    this.lon2 = lon2;
+    this.speedLimits = speedLimits;
+    this.cells = cells;
+  }
+
+  static RoadGraph load(File file) throws IOException {
+    ByteBuffer buffer;
+    try (FileInputStream input = new FileInputStream(file);
+         FileChannel channel = input.getChannel()) {
+      buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+    buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+    if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC) {
+      throw new IOException("Not a road segment file");
+    }
+    int version = buffer.getInt();
+    if (version != VERSION) {
+      throw new IOException("Unsupported road segment file version: " + version);
+    }
+    int count = buffer.getInt();
+    if (count < 0 || buffer.remaining() < (long) count * RECORD_BYTES) {
+      throw new IOException("Truncated road segment file");
+    }
+
+    long[] ids = new long[count];
+    double[] lat1 = new double[count];
+    double[] lon1 = new double[count];
+    double[] lat2 = new double[count];
+    double[] lon2 = new double[count];
+    float[] speedLimits = new float[count];
+    Map<Long, List<Integer>> building = new HashMap<>();
+
+    for (int i = 0; i < count; i++) {
+      ids[i] = buffer.getLong();
+      lat1[i] = buffer.getFloat();
+      lon1[i] = buffer.getFloat();
+      lat2[i] = buffer.getFloat();
+      lon2[i] = buffer.getFloat();
+      speedLimits[i] = buffer.getFloat();
+
+      if (!isLatitude(lat1[i]) || !isLongitude(lon1[i])
+          || !isLatitude(lat2[i]) || !isLongitude(lon2[i])
+          || !Float.isFinite(speedLimits[i])) {
+        throw new IOException("Invalid coordinates or speed limit in road segment " + ids[i]);
+      }
+      registerCells(building, i, lat1[i], lon1[i], lat2[i], lon2[i]);
+    }
+
+    Map<Long, int[]> cells = new HashMap<>(building.size() * 2);
+    for (Map.Entry<Long, List<Integer>> entry : building.entrySet()) {
+      List<Integer> list = entry.getValue();
+      int[] segments = new int[list.size()];
+      for (int i = 0; i < segments.length; i++) {
+        segments[i] = list.get(i);
+      }
+      cells.put(entry.getKey(), segments);
+    }
+    return new RoadGraph(ids, lat1, lon1, lat2, lon2, speedLimits, cells);
+  }
+
+  // Walks the grid cells the segment passes through, one row or column step at a time
+  // (Amanatides & Woo), so a long diagonal costs cells proportional to its length
+  // instead of to its bounding box.
+  private static void registerCells(Map<Long, List<Integer>> building, int segment,
+      double lat1, double lon1, double lat2, double lon2) throws IOException {
+    double x0 = lon1 / CELL_DEGREES;
+    double y0 = lat1 / CELL_DEGREES;
+    double dx = lon2 / CELL_DEGREES - x0;
+    double dy = lat2 / CELL_DEGREES - y0;
+    int row = row(lat1);
+    int column = column(lon1);
+    int endRow = row(lat2);
+    int endColumn = column(lon2);
+    int cellCount = Math.abs(endRow - row) + Math.abs(endColumn - column) + 1;
+    if (cellCount > MAX_CELLS_PER_SEGMENT) {
+      throw new IOException("Road segment " + segment + " spans too many grid cells");
+    }
+
+    int stepRow = endRow > row ? 1 : -1;
+    int stepColumn = endColumn > column ? 1 : -1;
+    // Fraction of the segment at which the next row / column boundary is crossed.
+    double nextRowAt = dy == 0 ? Double.POSITIVE_INFINITY
+      : (stepRow > 0 ? row + 1 - y0 : y0 - row) / Math.abs(dy);
+    double nextColumnAt = dx == 0 ? Double.POSITIVE_INFINITY
+      : (stepColumn > 0 ? column + 1 - x0 : x0 - column) / Math.abs(dx);
+    double rowDelta = dy == 0 ? Double.POSITIVE_INFINITY : 1 / Math.abs(dy);
+    double columnDelta = dx == 0 ? Double.POSITIVE_INFINITY : 1 / Math.abs(dx);
+
+    for (int n = 0; n < cellCount; n++) {
+      List<Integer> cell = building.get(key(row, column));
+      if (cell == null) {
+        cell = new ArrayList<>();
+        building.put(key(row, column), cell);
+      }
+      cell.add(segment);
+
+      // Rounding can disagree with the end cell near corners; the end cell always wins.
+      if (column == endColumn || (row != endRow && nextRowAt < nextColumnAt)) {
+        row += stepRow;
+        nextRowAt += rowDelta;
+      } else {
+        column += stepColumn;
+        nextColumnAt += columnDelta;
+      }
+    }
+  }
+
+  private static boolean isLatitude(double value) {
+    return value >= -90 && value <= 90;
+  }
+
+  private static boolean isLongitude(double value) {
+    return value >= -180 && value <= 180;
+  }
+
+  // Segment indexes registered in the given cell, or null when the cell is empty.
+  int[] segmentsIn(int row, int column) {
+    return cells.get(key(row, column));
+  }
+
+  static int row(double latitude) {
+    return (int) Math.floor(latitude / CELL_DEGREES);
+  }
+
+  static int column(double longitude) {
+    return (int) Math.floor(longitude / CELL_DEGREES);
+  }
+
+  private static long key(int row, int column) {
+    return ((long) row << 32) | (column & 0xffffffffL);
+  }
+}
@@ -0,0 +1,98 @@
+package com.reactnativetelematicssdk;
+
+import android.location.Location;
+
+// Snaps fixes to the nearest plausible RoadGraph segment.
+//
+// Each candidate within MAX_DISTANCE_METERS is scored like a one-step HMM: a Gaussian
+// emission cost on the distance, a heading cost when the fix has a usable bearing, and a
+// transition cost for leaving the previously matched segment. The lowest score wins.
+class RoadMatcher {
+
+  private static final double MAX_DISTANCE_METERS = 30.0;
+  private static final double GPS_SIGMA_METERS = 10.0;
+  // Bearings are only trusted above walking speed.
+  private static final double MIN_HEADING_SPEED_MS = 2.0;
+  private static final double MAX_HEADING_DIFF_DEGREES = 60.0;
+  private static final double HEADING_SCALE_DEGREES = 30.0;
+  private static final double SEGMENT_CHANGE_COST = 0.5;
+  private static final double METERS_PER_DEGREE = 111_320.0;
+
+  final RoadGraph graph;
+  private int previousSegment = -1;
+
+  RoadMatcher(RoadGraph graph) {
+    this.graph = graph;
+  }
+
+  // Returns the matched segment index, or -1 when no segment is plausible.
+  synchronized int match(Location location) {
+    double latitude = location.getLatitude();
+    double longitude = location.getLongitude();
+    boolean useHeading = location.hasBearing()
+      && location.hasSpeed()
+      && location.getSpeed() >= MIN_HEADING_SPEED_MS;
+    double cosLatitude = Math.cos(Math.toRadians(latitude));
+
+    int row = RoadGraph.row(latitude);
+    int column = RoadGraph.column(longitude);
+    int best = -1;
+    double bestCost = Double.MAX_VALUE;
+
+    for (int r = row - 1; r <= row + 1; r++) {
+      for (int c = column - 1; c <= column + 1; c++) {
+        int[] segments = graph.segmentsIn(r, c);
+        if (segments == null) continue;
+
+        for (int segment : segments) {
+          // Project into a local equirectangular plane in meters around the fix.
+          double ax = (graph.lon1[segment] - longitude) * cosLatitude * METERS_PER_DEGREE;
+          double ay = (graph.lat1[segment] - latitude) * METERS_PER_DEGREE;
+          double bx = (graph.lon2[segment] - longitude) * cosLatitude * METERS_PER_DEGREE;
+          double by = (graph.lat2[segment] - latitude) * METERS_PER_DEGREE;
+
+          double distance = distanceToSegment(ax, ay, bx, by);
+          if (distance > MAX_DISTANCE_METERS) continue;
+
+          double cost = (distance * distance) / (2 * GPS_SIGMA_METERS * GPS_SIGMA_METERS);
+          if (useHeading) {
+            double headingDiff = headingDifference(location.getBearing(), bx - ax, by - ay);
+            if (headingDiff > MAX_HEADING_DIFF_DEGREES) continue;
+            double scaled = headingDiff / HEADING_SCALE_DEGREES;
+            cost += scaled * scaled;
+          }
+          if (previousSegment >= 0 && segment != previousSegment) {
+            cost += SEGMENT_CHANGE_COST;
+          }
+
+          if (cost < bestCost) {
+            bestCost = cost;
+            best = segment;
+          }
+        }
+      }
+    }
+
+    previousSegment = best;
+    return best;
+  }
+
+  // Distance from the origin to segment AB.
+  private static double distanceToSegment(double ax, double ay, double bx, double by) {
+    double dx = bx - ax;
+    double dy = by - ay;
+    double lengthSquared = dx * dx + dy * dy;
+    double t = lengthSquared == 0 ? 0 : -(ax * dx + ay * dy) / lengthSquared;
+    t = Math.max(0, Math.min(1, t));
+    double px = ax + t * dx;
+    double py = ay + t * dy;
+    return Math.sqrt(px * px + py * py);
+  }
+
+  // Angle between the fix bearing and the segment direction, ignoring travel direction (0-90).
+  private static double headingDifference(float bearing, double dx, double dy) {
+    double segmentBearing = Math.toDegrees(Math.atan2(dx, dy));
+    double diff = Math.abs(((bearing - segmentBearing) % 180 + 180) % 180);
+    return Math.min(diff, 180 - diff);
+  }
+}
@@ -0,0 +1,61 @@
+package com.reactnativetelematicssdk;
+
+import android.content.Context;
+
+import androidx.annotation.Nullable;
+
+import com.telematicssdk.tracking.Settings;
+import com.telematicssdk.tracking.TrackingApi;
+
+import java.util.function.Supplier;
+
+// The default TrackingSource: forwards to the SDK. Settings are read when the SDK is
+// initialized so the profile active at that moment applies.
+class SdkTrackingSource implements TrackingSource {
+
+  private final TrackingApi api;
+  private final Context context;
+  private final Supplier<Settings> settings;
+  // The callback registered with the SDK, kept so it can be unregistered again.
+  @Nullable
+  private TrackingStateListenerImpl trackingStateCallback = null;
+
+  SdkTrackingSource(TrackingApi api, Context context, Supplier<Settings> settings) {
+    this.api = api;
+    this.context = context;
+    this.settings = settings;
+  }
+
+  @Override
+  public boolean isInitialized() {
+    return api.isInitialized();
+  }
+
+  @Override
+  public void initialize() {
+    api.initialize(context, settings.get());
+  }
+
+  @Override
+  public boolean isTracking() {
+    return api.isTracking();
+  }
+
+  @Override
+  public void setLocationListener(@Nullable Listener listener) {
+    api.setLocationListener(listener == null ? null : new LocationListenerImpl(listener));
+  }
+
+  @Override
+  public synchronized void setTrackingStateListener(@Nullable Listener listener) {
+    if (trackingStateCallback != null) {
+      api.unregisterCallback(trackingStateCallback);
+      trackingStateCallback = null;
+    }
+    if (listener != null) {
+      TrackingStateListenerImpl callback = new TrackingStateListenerImpl(listener);
+      api.registerCallback(callback);
+      trackingStateCallback = callback;
+    }
+  }
+}
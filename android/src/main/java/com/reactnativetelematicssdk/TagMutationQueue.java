@@ -0,0 +1,251 @@
+package com.reactnativetelematicssdk;
+
+import android.util.Log;
+
+import androidx.annotation.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Durable log of Future Track tag mutations that the SDK reported as offline.
+//
+// Records are appended to a small binary file; on load they are replayed into an in-memory
+// map keyed by tag, which collapses redundant operations: an add followed by a remove of the
+// same tag cancels out, and otherwise the latest operation wins. The file is rewritten from
+// the collapsed state once it holds noticeably more records than pending mutations.
+class TagMutationQueue {
+
+  interface Listener {
+    void onTagQueueChanged();
+  }
+
+  static final byte OP_ADD = 1;
+  static final byte OP_REMOVE = 2;
+  // Marks the pending mutation of a tag as delivered.
+  private static final byte OP_ACK = 3;
+
+  private static final String TAG = "TelematicsSdkModule";
+  private static final int COMPACT_SLACK_RECORDS = 32;
+  // A mutation the SDK has not answered within this time is presumed lost and sent again.
+  static final long IN_FLIGHT_TIMEOUT_MS = 30_000;
+
+  static final class Mutation {
+    final byte op;
+    final String tag;
+    @Nullable final String source;
+
+    Mutation(byte op, String tag, @Nullable String source) {
+      this.op = op;
+      this.tag = tag;
+      this.source = source;
+    }
+  }
+
+  private final File file;
+  private final Listener listener;
+  private final Map<String, Mutation> pending = new LinkedHashMap<>();
+  private int recordCount = 0;
+  @Nullable private Mutation inFlight = null;
+  private long inFlightSinceMs = 0;
+  // Set when the SDK reports offline; replay waits for resume() on reconnect.
+  private boolean paused = false;
+  private long replayed = 0;
+  private long lastReplayedAtMs = 0;
+
+  TagMutationQueue(File file, Listener listener) {
+    this.file = file;
+    this.listener = listener;
+    load();
+  }
+
+  // Queues a mutation the SDK could not deliver because it was offline.
+  void enqueue(byte op, String tag, @Nullable String source) {
+    synchronized (this) {
+      Mutation mutation = new Mutation(op, tag, source);
+      apply(mutation);
+      append(mutation);
+      paused = true;
+    }
+    listener.onTagQueueChanged();
+  }
+
+  // Takes the oldest pending mutation for delivery; null when empty or one is already in flight.
+  // An in-flight mutation older than IN_FLIGHT_TIMEOUT_MS is given up on and sent again, so a
+  // callback the SDK never delivers cannot stall the queue. nowMs is SystemClock.elapsedRealtime().
+  @Nullable
+  synchronized Mutation startNext(long nowMs) {
+    if (paused) return null;
+    if (inFlight != null) {
+      if (nowMs - inFlightSinceMs < IN_FLIGHT_TIMEOUT_MS) return null;
+      Log.w(TAG, "No SDK result for queued tag mutation, sending it again");
+    }
+    Iterator<Mutation> iterator = pending.values().iterator();
+    inFlight = iterator.hasNext() ? iterator.next() : null;
+    inFlightSinceMs = nowMs;
+    return inFlight;
+  }
+
+  // Resolves the in-flight mutation if the SDK callback belongs to it. Mutations that must be
+  // retried stay queued; everything else (success or a permanent error) is dropped from the log.
+  // Returns false when the callback is not for the in-flight mutation.
+  boolean completeInFlight(byte op, String tag, boolean retry) {
+    synchronized (this) {
+      if (inFlight == null || inFlight.op != op || !inFlight.tag.equals(tag)) return false;
+
+      if (!retry) {
+        Mutation current = pending.get(tag);
+        if (current == inFlight) {
+          pending.remove(tag);
+          append(new Mutation(OP_ACK, tag, null));
+        } else if (current != null) {
+          // A newer mutation of the same tag was queued meanwhile and stays pending. Its record
+          // follows the delivered one in the log, where a replay would collapse the pair (an
+          // add and a remove cancel out), so the delivery is acknowledged and the newer
+          // mutation written again after it.
+          append(new Mutation(OP_ACK, tag, null));
+          append(current);
+        }
+        replayed++;
+        lastReplayedAtMs = System.currentTimeMillis();
+      }
+      paused = retry;
+      inFlight = null;
+      compactIfNeeded();
+    }
+    listener.onTagQueueChanged();
+    return true;
+  }
+
+  // Forgets the in-flight mutation without a result, e.g. when the SDK call threw.
+  synchronized void abortInFlight() {
+    inFlight = null;
+    paused = true;
+  }
+
+  synchronized void resume() {
+    paused = false;
+  }
+
+  synchronized int depth() {
+    return pending.size();
+  }
+
+  synchronized boolean isReplaying() {
+    return inFlight != null;
+  }
+
+  synchronized long replayed() {
+    return replayed;
+  }
+
+  synchronized long lastReplayedAtMs() {
+    return lastReplayedAtMs;
+  }
+
+  private void apply(Mutation mutation) {
+    if (mutation.op == OP_ACK) {
+      pending.remove(mutation.tag);
+      return;
+    }
+
+    Mutation existing = pending.remove(mutation.tag);
+    if (existing != null && existing.op == OP_ADD && mutation.op == OP_REMOVE && existing != inFlight) {
+      return;
+    }
+    pending.put(mutation.tag, mutation);
+  }
+
+  private void load() {
+    if (!file.exists()) return;
+    DataInputStream input;
+    try {
+      input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+    } catch (IOException e) {
+      Log.e(TAG, "Failed to open tag mutation log", e);
+      return;
+    }
+    boolean torn = false;
+    try (DataInputStream records = input) {
+      int op;
+      while ((op = records.read()) >= 0) {
+        apply(read((byte) op, records));
+        recordCount++;
+      }
+    } catch (IOException e) {
+      // A record torn by a crash mid-append or otherwise corrupted. Everything after it is
+      // unreadable, so the log is rewritten without it; otherwise later appends would land
+      // behind the garbage and be lost on every load.
+      Log.w(TAG, "Dropping unreadable tail of tag mutation log", e);
+      torn = true;
+    }
+    if (torn) {
+      compact();
+    } else {
+      compactIfNeeded();
+    }
+  }
+
+  private void append(Mutation mutation) {
+    try (FileOutputStream stream = new FileOutputStream(file, true);
+         DataOutputStream output = new DataOutputStream(new BufferedOutputStream(stream))) {
+      write(output, mutation);
+      output.flush();
+      stream.getFD().sync();
+      recordCount++;
+    } catch (IOException e) {
+      Log.e(TAG, "Failed to append tag mutation", e);
+    }
+  }
+
+  private void compactIfNeeded() {
+    if (recordCount > pending.size() + COMPACT_SLACK_RECORDS) {
+      compact();
+    }
+  }
+
+  private void compact() {
+    File temp = new File(file.getPath() + ".tmp");
+    try (FileOutputStream stream = new FileOutputStream(temp);
+         DataOutputStream output = new DataOutputStream(new BufferedOutputStream(stream))) {
+      for (Mutation mutation : pending.values()) {
+        write(output, mutation);
+      }
+      output.flush();
+      // Synced before the rename, so a crash cannot replace the log with a partial copy.
+      stream.getFD().sync();
+    } catch (IOException e) {
+      Log.e(TAG, "Failed to compact tag mutation log", e);
+      return;
+    }
+    if (temp.renameTo(file)) {
+      recordCount = pending.size();
+    }
+  }
+
+  private static Mutation read(byte op, DataInputStream input) throws IOException {
+    if (op != OP_ADD && op != OP_REMOVE && op != OP_ACK) {
+      throw new IOException("Unknown tag mutation op: " + op);
+    }
+    String tag = input.readUTF();
+    String source = input.readBoolean() ? input.readUTF() : null;
+    return new Mutation(op, tag, source);
+  }
+
+  private static void write(DataOutputStream output, Mutation mutation) throws IOException {
+    output.writeByte(mutation.op);
+    output.writeUTF(mutation.tag);
+    output.writeBoolean(mutation.source != null);
+    if (mutation.source != null) {
+      output.writeUTF(mutation.source);
+    }
+  }
+}
@@ -20,13 +20,15 @@ public class TagsProcessor implements TagsProcessingListener {
   private static final String OPERATION_IN_PROGRESS = "OPERATION_IN_PROGRESS";
 
   private final ReactApplicationContext reactContext;
+  private final TagMutationQueue mutationQueue;
   private Promise onAllTagsRemovePromise = null;
   private Promise onGetTagsPromise = null;
   private Promise onAddTagPromise = null;
   private Promise onTagRemovePromise = null;
 
-  public TagsProcessor(ReactApplicationContext reactContext) {
+  public TagsProcessor(ReactApplicationContext reactContext, TagMutationQueue mutationQueue) {
     this.reactContext = reactContext;
+    this.mutationQueue = mutationQueue;
   }
 
   public synchronized boolean setOnAddTag(Promise onAddTag) {
@@ -163,6 +165,13 @@ public class TagsProcessor implements TagsProcessingListener {
   @Override
   public void onTagAdd(@NonNull Status status, @NonNull Tag tag, long l) {
     Log.d(TAG, "onTagAdd");
+    boolean offline = status == Status.OFFLINE;
+    if (mutationQueue.completeInFlight(TagMutationQueue.OP_ADD, tag.getTag(), offline)) {
+      return;
+    }
+    if (offline) {
+      mutationQueue.enqueue(TagMutationQueue.OP_ADD, tag.getTag(), tag.getSource());
+    }
     String statusString = parseStatus(status);
     Promise promise = takeOnAddTagPromise();
     if(promise == null) {
@@ -172,12 +181,20 @@ public class TagsProcessor implements TagsProcessingListener {
     WritableMap result = new WritableNativeMap();
     result.putString("status", statusString);
     result.putMap("tag", tagToWritableMap(tag));
+    result.putBoolean("queued", offline);
     resolveOnUiQueue(promise, result);
   }
 
   @Override
   public void onTagRemove(@NonNull Status status, @NonNull Tag tag, long l) {
     Log.d(TAG, "onTagRemove");
+    boolean offline = status == Status.OFFLINE;
+    if (mutationQueue.completeInFlight(TagMutationQueue.OP_REMOVE, tag.getTag(), offline)) {
+      return;
+    }
+    if (offline) {
+      mutationQueue.enqueue(TagMutationQueue.OP_REMOVE, tag.getTag(), tag.getSource());
+    }
     String statusString = parseStatus(status);
     Promise promise = takeOnTagRemovePromise();
     if(promise == null) {
@@ -187,6 +204,7 @@ public class TagsProcessor implements TagsProcessingListener {
     WritableMap result = new WritableNativeMap();
     result.putString("status", statusString);
     result.putMap("tag", tagToWritableMap(tag));
+    result.putBoolean("queued", offline);
     resolveOnUiQueue(promise, result);
   }
 }
@@ -0,0 +1,102 @@
+package com.reactnativetelematicssdk;
+
+import androidx.annotation.Nullable;
+
+// Events queued in the EventDispatcher. The hot-path events carry typed fields instead of a
+// prebuilt JS map, and TelematicsEvents writes their payload only when they are delivered,
+// so a location fix replaced before delivery is never serialized.
+abstract class TelematicsEvent {
+
+  final String name;
+  // Set by the dispatcher when the event is posted.
+  long enqueuedAtNanos;
+
+  TelematicsEvent(String name) {
+    this.name = name;
+  }
+
+  // Builds the JS payload; called on the UI queue thread when the event is delivered.
+  abstract Object write();
+
+  // One fix for onLocationChanged. Instances are recycled by the dispatcher's location lane,
+  // so every field is overwritten by set().
+  static final class LocationChanged extends TelematicsEvent {
+    double latitude;
+    double longitude;
+    // Only meaningful when matched.
+    boolean matched;
+    long roadSegmentId;
+    float roadSpeedLimit;
+
+    LocationChanged() {
+      super(TelematicsEvents.ON_LOCATION_CHANGED);
+    }
+
+    // segment is the index returned by RoadMatcher.match(), or -1 when there is no match.
+    void set(double latitude, double longitude, @Nullable RoadGraph graph, int segment) {
+      this.latitude = latitude;
+      this.longitude = longitude;
+      this.matched = graph != null && segment >= 0;
+      this.roadSegmentId = matched ? graph.ids[segment] : 0;
+      this.roadSpeedLimit = matched ? graph.speedLimits[segment] : 0;
+    }
+
+    @Override
+    Object write() {
+      return TelematicsEvents.writeLocation(this);
+    }
+  }
+
+  static final class SpeedViolationDetected extends TelematicsEvent {
+    final double date;
+    final double latitude;
+    final double longitude;
+    final double speed;
+    final double speedLimit;
+
+    SpeedViolationDetected(double date, double latitude, double longitude, double speed,
+        double speedLimit) {
+      super(TelematicsEvents.ON_SPEED_VIOLATION);
+      this.date = date;
+      this.latitude = latitude;
+      this.longitude = longitude;
+      this.speed = speed;
+      this.speedLimit = speedLimit;
+    }
+
+    @Override
+    Object write() {
+      return TelematicsEvents.writeSpeedViolation(this);
+    }
+  }
+
+  static final class TrackingStateChanged extends TelematicsEvent {
+    final boolean tracking;
+
+    TrackingStateChanged(boolean tracking) {
+      super(TelematicsEvents.ON_TRACKING_STATE_CHANGED);
+      this.tracking = tracking;
+    }
+
+    @Override
+    Object write() {
+      return tracking;
+    }
+  }
+
+  // Low-rate events whose payload is built when they are posted (batches, trip summaries,
+  // tag queue state, accident context).
+  static final class Prebuilt extends TelematicsEvent {
+    private final Object payload;
+
+    Prebuilt(String name, Object payload) {
+      super(name);
+      this.payload = payload;
+    }
+
+    @Override
+    Object write() {
+      return payload;
+    }
+  }
+}
@@ -0,0 +1,128 @@
+package com.reactnativetelematicssdk;
+
+import androidx.annotation.NonNull;
+
+import com.facebook.react.bridge.WritableMap;
+import com.facebook.react.bridge.WritableNativeMap;
+
+// Event names, payload keys and the one writer that turns events into JS payloads, kept in
+// one place so native and JS field names cannot drift apart. Keys are compile-time constants,
+// so every payload reuses the same interned strings. Typed events (TelematicsEvent) are
+// written at delivery; the low-rate payloads below are written when they are posted.
+final class TelematicsEvents {
+
+  static final String ON_LOCATION_CHANGED = "onLocationChanged";
+  static final String ON_TRACKING_STATE_CHANGED = "onTrackingStateChanged";
+  static final String ON_SPEED_VIOLATION = "onSpeedViolation";
+  static final String ON_LOCATION_BATCH = "onLocationBatch";
+  static final String ON_TRIP_SUMMARY = "onTripSummary";
+  static final String ON_TAG_QUEUE_CHANGED = "onTagQueueChanged";
+  static final String ON_ACCIDENT_CONTEXT = "onAccidentContext";
+
+  static final String KEY_LATITUDE = "latitude";
+  static final String KEY_LONGITUDE = "longitude";
+  static final String KEY_DATE = "date";
+  static final String KEY_SPEED = "speed";
+  static final String KEY_SPEED_LIMIT = "speedLimit";
+  static final String KEY_ROAD_SEGMENT_ID = "roadSegmentId";
+  static final String KEY_ROAD_SPEED_LIMIT = "roadSpeedLimit";
+  static final String KEY_ID = "id";
+  static final String KEY_START_TIME = "startTime";
+  static final String KEY_END_TIME = "endTime";
+  static final String KEY_DURATION_MS = "durationMs";
+  static final String KEY_FIX_COUNT = "fixCount";
+  static final String KEY_DISTANCE_METERS = "distanceMeters";
+  static final String KEY_AVERAGE_SPEED = "averageSpeed";
+  static final String KEY_MAX_SPEED = "maxSpeed";
+  static final String KEY_IDLE_TIME_MS = "idleTimeMs";
+  static final String KEY_MIN_LATITUDE = "minLatitude";
+  static final String KEY_MIN_LONGITUDE = "minLongitude";
+  static final String KEY_MAX_LATITUDE = "maxLatitude";
+  static final String KEY_MAX_LONGITUDE = "maxLongitude";
+  static final String KEY_START_GEOHASH = "startGeohash";
+  static final String KEY_END_GEOHASH = "endGeohash";
+  static final String KEY_DEPTH = "depth";
+  static final String KEY_REPLAYING = "replaying";
+  static final String KEY_REPLAYED = "replayed";
+  static final String KEY_LAST_REPLAYED_AT = "lastReplayedAt";
+  static final String KEY_REASON = "reason";
+  static final String KEY_DETECTED_AT = "detectedAt";
+  static final String KEY_WINDOW_SECONDS = "windowSeconds";
+  static final String KEY_FIXES = "fixes";
+  static final String KEY_LAST_SPEED = "lastSpeed";
+
+  private TelematicsEvents() {
+  }
+
+  // Road keys are written only when the fix was matched to a segment of the loaded graph.
+  // Segment ids are int64, so they are sent as strings to survive the JS number type.
+  @NonNull
+  static WritableMap writeLocation(@NonNull TelematicsEvent.LocationChanged event) {
+    WritableMap payload = new WritableNativeMap();
+    payload.putDouble(KEY_LATITUDE, event.latitude);
+    payload.putDouble(KEY_LONGITUDE, event.longitude);
+    if (event.matched) {
+      payload.putString(KEY_ROAD_SEGMENT_ID, Long.toString(event.roadSegmentId));
+      payload.putDouble(KEY_ROAD_SPEED_LIMIT, event.roadSpeedLimit);
+    }
+    return payload;
+  }
+
+  @NonNull
+  static WritableMap writeSpeedViolation(@NonNull TelematicsEvent.SpeedViolationDetected event) {
+    WritableMap payload = new WritableNativeMap();
+    payload.putDouble(KEY_DATE, event.date);
+    payload.putDouble(KEY_LATITUDE, event.latitude);
+    payload.putDouble(KEY_LONGITUDE, event.longitude);
+    payload.putDouble(KEY_SPEED, event.speed);
+    payload.putDouble(KEY_SPEED_LIMIT, event.speedLimit);
+    return payload;
+  }
+
+  @NonNull
+  static WritableMap writeTagQueueState(@NonNull TagMutationQueue queue) {
+    WritableMap payload = new WritableNativeMap();
+    payload.putInt(KEY_DEPTH, queue.depth());
+    payload.putBoolean(KEY_REPLAYING, queue.isReplaying());
+    payload.putDouble(KEY_REPLAYED, queue.replayed());
+    payload.putDouble(KEY_LAST_REPLAYED_AT, queue.lastReplayedAtMs());
+    return payload;
+  }
+
+  // Speeds are converted from m/s to km/h to match speed violation events.
+  @NonNull
+  static WritableMap writeTripSummary(@NonNull TripSummary summary) {
+    WritableMap payload = new WritableNativeMap();
+    payload.putString(KEY_ID, summary.id);
+    payload.putDouble(KEY_START_TIME, summary.startTimeMs);
+    payload.putDouble(KEY_END_TIME, summary.endTimeMs);
+    payload.putDouble(KEY_DURATION_MS, summary.durationMs());
+    payload.putInt(KEY_FIX_COUNT, summary.fixCount);
+    payload.putDouble(KEY_DISTANCE_METERS, summary.distanceMeters);
+    payload.putDouble(KEY_AVERAGE_SPEED, summary.averageSpeedMs * 3.6);
+    payload.putDouble(KEY_MAX_SPEED, summary.maxSpeedMs * 3.6);
+    payload.putDouble(KEY_IDLE_TIME_MS, summary.idleTimeMs);
+    payload.putDouble(KEY_MIN_LATITUDE, summary.minLatitude);
+    payload.putDouble(KEY_MIN_LONGITUDE, summary.minLongitude);
+    payload.putDouble(KEY_MAX_LATITUDE, summary.maxLatitude);
+    payload.putDouble(KEY_MAX_LONGITUDE, summary.maxLongitude);
+    payload.putString(KEY_START_GEOHASH, summary.startGeohash);
+    payload.putString(KEY_END_GEOHASH, summary.endGeohash);
+    return payload;
+  }
+
+  // Fixes are a packed location batch (see LocationBatchEncoder); speeds are in km/h.
+  @NonNull
+  static WritableMap writeAccidentContext(@NonNull String reason, long detectedAtMs,
+      @NonNull PreEventBuffer.Snapshot snapshot) {
+    WritableMap payload = new WritableNativeMap();
+    payload.putString(KEY_REASON, reason);
+    payload.putDouble(KEY_DETECTED_AT, detectedAtMs);
+    payload.putDouble(KEY_WINDOW_SECONDS, snapshot.windowMs / 1000.0);
+    payload.putString(KEY_FIXES, snapshot.fixes);
+    payload.putInt(KEY_FIX_COUNT, snapshot.fixCount);
+    payload.putDouble(KEY_MAX_SPEED, snapshot.maxSpeedMs * 3.6);
+    payload.putDouble(KEY_LAST_SPEED, snapshot.lastSpeedMs * 3.6);
+    return payload;
+  }
+}
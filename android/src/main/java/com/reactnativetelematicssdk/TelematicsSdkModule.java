@@ -1,12 +1,20 @@
 package com.reactnativetelematicssdk;
 
 import android.Manifest;
+import android.content.Context;
 import android.content.Intent;
+import android.content.SharedPreferences;
 import android.content.pm.PackageManager;
+import android.net.ConnectivityManager;
+import android.net.Network;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
 import android.util.Log;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 import androidx.core.app.ActivityCompat;
 
 import android.location.Location;
@@ -15,8 +23,8 @@ import com.facebook.react.bridge.ActivityEventListener;
 import com.facebook.react.bridge.Promise;
 import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
 import com.facebook.react.bridge.WritableMap;
-import com.facebook.react.modules.core.DeviceEventManagerModule;
 
 import com.telematicssdk.tracking.TrackingApi;
 import com.telematicssdk.tracking.Settings;
@@ -25,28 +33,88 @@ import com.telematicssdk.tracking.utils.permissions.PermissionsWizardActivity;
 import com.telematicssdk.tracking.model.realtime.configuration.AccidentDetectionSensitivity;
 import com.telematicssdk.tracking.SpeedViolation;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
 public class TelematicsSdkModule extends NativeTelematicsSdkSpec
     implements ActivityEventListener {
 
   public static final String NAME = "TelematicsSdk";
   private static final String TAG = "TelematicsSdkModule";
-
-  private Promise permissionsPromise = null;
+  private static final String TAG_MUTATION_LOG_FILE = "telematics_tag_mutations.log";
+  private static final String PREFERENCES_NAME = "telematics_sdk";
+  private static final String PREF_TRACKING_PROFILE = "trackingProfile";
+  private static final String ACCIDENT_REASON_HARSH_BRAKING = "harshBraking";
+  private static final int MAX_PRE_EVENT_WINDOW_SECONDS = 60;
+  // 20 s of fixes at 50 Hz; larger batches only add latency and buffer memory.
+  private static final int MAX_LOCATION_BATCH_SIZE = 1000;
+
+  private final AtomicReference<Promise> permissionsPromise = new AtomicReference<>();
   private final ReactApplicationContext reactContext;
-  private boolean hasListeners = false;
-  private boolean tagsCallbackRegistered = false;
+  private final EventSubscriptions subscriptions = new EventSubscriptions();
+  private final AtomicBoolean tagsCallbackRegistered = new AtomicBoolean(false);
+  private final AtomicLong lastLocationEmitMs = new AtomicLong();
+  private final EmitStats emitStats = new EmitStats();
+  private final LocationBatchEncoder locationBatchEncoder = new LocationBatchEncoder();
+  private final TripAccumulator tripAccumulator = new TripAccumulator();
+  private final PreEventBuffer preEventBuffer = new PreEventBuffer();
+  private volatile RoadMatcher roadMatcher = null;
+  private volatile TrackingProfile profile;
+  // Guarded by "this"; only touched from updateSdkListeners().
+  private boolean locationListenerAttached = false;
+  private boolean trackingStateListenerAttached = false;
 
   private final TrackingApi api = TrackingApi.getInstance();
+  private final TrackingSource trackingSource;
   private final TagsProcessor tagsProcessor;
-  private final LocationListenerImpl locationListener;
-  private final TrackingStateListenerImpl trackingStateListener;
+  private final TagMutationQueue tagMutationQueue;
+  private final ConnectivityManager.NetworkCallback networkCallback;
+  private final AtomicBoolean networkCallbackRegistered = new AtomicBoolean(false);
+  private final Handler mainHandler = new Handler(Looper.getMainLooper());
+  // Re-checks the queue once an unanswered mutation has timed out.
+  private final Runnable tagReplayTimeout = this::replayNextTagMutation;
+  private final EventDispatcher dispatcher;
+  private final TrackingSource.Listener trackingListener = new TrackingSource.Listener() {
+    @Override
+    public void onLocationChanged(@NonNull Location location) {
+      handleLocation(location);
+    }
+
+    @Override
+    public void onTrackingStateChanged(boolean tracking) {
+      handleTrackingStateChanged(tracking);
+    }
+  };
 
   public TelematicsSdkModule(ReactApplicationContext reactContext) {
+    this(reactContext, null);
+  }
+
+  // A non-null trackingSource stands in for the SDK, e.g. to replay fixes in a benchmark.
+  @VisibleForTesting
+  TelematicsSdkModule(ReactApplicationContext reactContext, @Nullable TrackingSource trackingSource) {
     super(reactContext);
     this.reactContext = reactContext;
-    this.tagsProcessor = new TagsProcessor(reactContext);
-    this.locationListener = new LocationListenerImpl(this);
-    this.trackingStateListener = new TrackingStateListenerImpl(this);
+    this.profile = loadTrackingProfile();
+    this.trackingSource = trackingSource != null
+      ? trackingSource
+      : new SdkTrackingSource(api, reactContext, this::setTelematicsSettings);
+    this.tagMutationQueue = new TagMutationQueue(
+      new File(reactContext.getFilesDir(), TAG_MUTATION_LOG_FILE),
+      this::onTagQueueChanged
+    );
+    this.tagsProcessor = new TagsProcessor(reactContext, tagMutationQueue);
+    this.networkCallback = new ConnectivityManager.NetworkCallback() {
+      @Override
+      public void onAvailable(@NonNull Network network) {
+        tagMutationQueue.resume();
+        replayNextTagMutation();
+      }
+    };
+    this.dispatcher = new EventDispatcher(reactContext);
     this.reactContext.addActivityEventListener(this);
   }
 
@@ -58,105 +126,229 @@ public class TelematicsSdkModule extends NativeTelematicsSdkSpec
 
   @Override
   public void addListener(String eventName) {
-    if (!hasListeners) {
-      hasListeners = true;
-      try {
-        api.setLocationListener(locationListener);
-        api.registerCallback(trackingStateListener);
-      } catch (Exception ignored) {
-      }
-    }
+    subscriptions.add(eventName);
+    updateSdkListeners();
   }
 
   @Override
   public void removeListeners(double count) {
-    if (hasListeners) {
-      hasListeners = false;
-      try {
-        api.setLocationListener(null);
-        api.unregisterCallback(trackingStateListener);
-      } catch (Exception ignored) {
+    subscriptions.removeTotal((int) count);
+    updateSdkListeners();
+  }
+
+  @Override
+  public void removeEventListener(String eventName) {
+    subscriptions.remove(eventName);
+    updateSdkListeners();
+  }
+
+  // Attaches each SDK listener only while JS has at least one subscriber for its event.
+  // Before the SDK is initialized the calls may throw or be ignored; initializeSdk() clears
+  // the attached flags and syncs again.
+  // Every subscription change publishes its state first and then syncs here, so the
+  // last caller through the lock always applies the latest subscriptions.
+  private synchronized void updateSdkListeners() {
+    boolean needsBatches = subscriptions.has(TelematicsEvents.ON_LOCATION_BATCH)
+      && locationBatchEncoder.isEnabled();
+    boolean needsTrips = subscriptions.has(TelematicsEvents.ON_TRIP_SUMMARY);
+    boolean needsPreEvent = subscriptions.has(TelematicsEvents.ON_ACCIDENT_CONTEXT)
+      && preEventBuffer.isEnabled();
+    boolean needsLocation = needsBatches || needsTrips || needsPreEvent
+      || subscriptions.has(TelematicsEvents.ON_LOCATION_CHANGED);
+    // Batches are flushed and trips closed when tracking stops, so both need the
+    // tracking-state callback too.
+    boolean needsTrackingState = needsBatches || needsTrips
+      || subscriptions.has(TelematicsEvents.ON_TRACKING_STATE_CHANGED);
+    try {
+      if (needsLocation != locationListenerAttached) {
+        trackingSource.setLocationListener(needsLocation ? trackingListener : null);
+        locationListenerAttached = needsLocation;
+      }
+      if (needsTrackingState != trackingStateListenerAttached) {
+        if (needsTrackingState) {
+          trackingSource.setTrackingStateListener(trackingListener);
+          // onStartTracking is not replayed for a trip that is already running.
+          if (subscriptions.has(TelematicsEvents.ON_TRIP_SUMMARY) && trackingSource.isTracking()) {
+            tripAccumulator.startIfInactive(System.currentTimeMillis());
+          }
+        } else {
+          trackingSource.setTrackingStateListener(null);
+        }
+        trackingStateListenerAttached = needsTrackingState;
       }
+    } catch (Exception ignored) {
     }
   }
 
-  boolean hasListeners() {
-    return hasListeners;
-  }
-
   @Override
   public void invalidate() {
     super.invalidate();
+    subscriptions.clear();
     try {
-      api.setLocationListener(null);
-      api.unregisterCallback(trackingStateListener);
+      updateSdkListeners();
       if (api.getTagsProcessingCallback() == tagsProcessor) {
         api.removeTagsProcessingCallback();
       }
-      hasListeners = false;
-      tagsCallbackRegistered = false;
+      tagsCallbackRegistered.set(false);
+      mainHandler.removeCallbacks(tagReplayTimeout);
+      if (networkCallbackRegistered.getAndSet(false)) {
+        connectivityManager().unregisterNetworkCallback(networkCallback);
+      }
     } catch (Exception ignored) {
     }
   }
 
-  void emitLocationChanged(@Nullable Location location) {
-    if (!hasListeners || location == null) return;
+  private void handleLocation(Location location) {
+    // The listeners also stay attached for other events, so trips are gated here.
+    if (subscriptions.has(TelematicsEvents.ON_TRIP_SUMMARY)) {
+      tripAccumulator.add(location);
+    }
+    if (preEventBuffer.add(location)) {
+      emitAccidentContext(ACCIDENT_REASON_HARSH_BRAKING);
+    }
+    emitLocationChanged(location);
+    emitLocationBatch(locationBatchEncoder.add(location));
+  }
 
-    WritableMap payload = Arguments.createMap();
-    payload.putDouble("latitude", location.getLatitude());
-    payload.putDouble("longitude", location.getLongitude());
+  private void handleTrackingStateChanged(boolean state) {
+    if (state) {
+      if (subscriptions.has(TelematicsEvents.ON_TRIP_SUMMARY)) {
+        tripAccumulator.start(System.currentTimeMillis());
+      }
+    } else {
+      emitLocationBatch(locationBatchEncoder.flush());
+      emitTripSummary(tripAccumulator.stop(System.currentTimeMillis()));
+    }
+    emitTrackingStateChanged(state);
+  }
 
-    reactContext.runOnUiQueueThread(() ->
-      reactContext
-        .getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class)
-        .emit("onLocationChanged", payload)
-    );
+  private void emitLocationChanged(Location location) {
+    if (!subscriptions.has(TelematicsEvents.ON_LOCATION_CHANGED)) return;
+    if (!acquireLocationSlot()) {
+      emitStats.recordLocationThrottled();
+      return;
+    }
+
+    long startNanos = System.nanoTime();
+    RoadMatcher matcher = roadMatcher;
+    RoadGraph graph = matcher == null ? null : matcher.graph;
+    int segment = matcher == null ? -1 : matcher.match(location);
+    TelematicsEvent.LocationChanged event = dispatcher.obtainLocationEvent();
+    event.set(location.getLatitude(), location.getLongitude(), graph, segment);
+    dispatcher.postLocation(event);
+    emitStats.recordLocationEnqueued(System.nanoTime() - startNanos);
   }
 
-  void emitTrackingStateChanged(boolean state) {
-    if (!hasListeners) return;
+  // Enforces the active profile's minimum interval between forwarded fixes.
+  private boolean acquireLocationSlot() {
+    long minIntervalMs = profile.minLocationIntervalMs;
+    if (minIntervalMs <= 0) return true;
 
-    reactContext.runOnUiQueueThread(() ->
-      reactContext
-        .getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class)
-        .emit("onTrackingStateChanged", state)
-    );
+    long now = SystemClock.elapsedRealtime();
+    long last = lastLocationEmitMs.get();
+    return now - last >= minIntervalMs && lastLocationEmitMs.compareAndSet(last, now);
+  }
+
+  private void emitLocationBatch(@Nullable String batch) {
+    if (batch == null || !subscriptions.has(TelematicsEvents.ON_LOCATION_BATCH)) return;
+    dispatcher.post(EventDispatcher.Lane.STANDARD, TelematicsEvents.ON_LOCATION_BATCH, batch);
+  }
+
+  private void emitTripSummary(@Nullable TripSummary summary) {
+    if (summary == null || !subscriptions.has(TelematicsEvents.ON_TRIP_SUMMARY)) return;
+    dispatcher.post(EventDispatcher.Lane.STANDARD, TelematicsEvents.ON_TRIP_SUMMARY,
+      TelematicsEvents.writeTripSummary(summary));
+  }
+
+  // Returns false when there is nothing buffered to send.
+  private boolean emitAccidentContext(String reason) {
+    if (!subscriptions.has(TelematicsEvents.ON_ACCIDENT_CONTEXT)) return false;
+    PreEventBuffer.Snapshot snapshot = preEventBuffer.snapshot();
+    if (snapshot == null) return false;
+    dispatcher.post(EventDispatcher.Lane.CRITICAL, TelematicsEvents.ON_ACCIDENT_CONTEXT,
+      TelematicsEvents.writeAccidentContext(reason, System.currentTimeMillis(), snapshot));
+    return true;
+  }
+
+  private void emitTrackingStateChanged(boolean state) {
+    if (!subscriptions.has(TelematicsEvents.ON_TRACKING_STATE_CHANGED)) return;
+    dispatcher.post(EventDispatcher.Lane.CRITICAL, new TelematicsEvent.TrackingStateChanged(state));
   }
 
   // MARK: - Lifecycle
 
   @Override
   public void initializeSdk(Promise promise) {
-    if (!api.isInitialized()) {
-      api.initialize(this.getReactApplicationContext(), setTelematicsSettings());
-      api.setLocationListener(locationListener);
-      api.registerCallback(trackingStateListener);
-      hasListeners = true;
+    if (!trackingSource.isInitialized()) {
+      trackingSource.initialize();
+      // The SDK may have quietly ignored listeners set before it was initialized, so the
+      // sync below sets them again.
+      synchronized (this) {
+        locationListenerAttached = false;
+        trackingStateListenerAttached = false;
+      }
+    }
+    updateSdkListeners();
+    // Tags go to the SDK itself, which a stand-in tracking source leaves uninitialized.
+    if (api.isInitialized()) {
+      ensureTagsProcessingCallbackRegistered();
+      ensureNetworkCallbackRegistered();
+      replayNextTagMutation();
     }
-    ensureTagsProcessingCallbackRegistered();
     promise.resolve(null);
   }
 
   private void ensureTagsProcessingCallbackRegistered() {
-    if (!tagsCallbackRegistered || api.getTagsProcessingCallback() != tagsProcessor) {
+    if (!tagsCallbackRegistered.get() || api.getTagsProcessingCallback() != tagsProcessor) {
       api.addTagsProcessingCallback(tagsProcessor);
-      tagsCallbackRegistered = true;
+      tagsCallbackRegistered.set(true);
     }
   }
 
+  // The SDK has no call to change its settings once initialized, so the profile is persisted
+  // and its settings apply when the SDK is initialized in the next app process.
+  private TrackingProfile loadTrackingProfile() {
+    TrackingProfile stored = TrackingProfile.fromJsName(
+      preferences().getString(PREF_TRACKING_PROFILE, TrackingProfile.HIGH_FIDELITY.jsName));
+    return stored == null ? TrackingProfile.HIGH_FIDELITY : stored;
+  }
+
+  private SharedPreferences preferences() {
+    return reactContext.getSharedPreferences(PREFERENCES_NAME, Context.MODE_PRIVATE);
+  }
+
   private Settings setTelematicsSettings() {
-    Settings settings = new Settings()
-      .stopTrackingTimeout(Settings.getStopTrackingTimeHigh())
-      .accuracy(Settings.getAccuracyHigh())
-      .autoStartOn(true)
-      .passiveDetectionOn(true);
-    Log.d(TAG, "setTelematicsSettings");
+    Settings settings = profile.toSettings();
+    Log.d(TAG, "setTelematicsSettings: " + profile.jsName);
     return settings;
   }
 
+  @Override
+  public void setTrackingProfile(String profileName, Promise promise) {
+    TrackingProfile value = TrackingProfile.fromJsName(profileName);
+    if (value == null) {
+      promise.reject("INVALID_ARGUMENT", "trackingProfile is invalid");
+      return;
+    }
+
+    profile = value;
+    preferences().edit().putString(PREF_TRACKING_PROFILE, value.jsName).apply();
+    lastLocationEmitMs.set(0);
+    // Both counters restart so enqueued and delivered cover the same window.
+    emitStats.reset();
+    dispatcher.resetStats();
+    // True when the SDK settings are already in use, false when they wait for the next start.
+    promise.resolve(!trackingSource.isInitialized());
+  }
+
+  @Override
+  public void getTrackingProfile(Promise promise) {
+    promise.resolve(profile.jsName);
+  }
+
   @Override
   public void isInitializedSdk(Promise promise) {
-    promise.resolve(api.isInitialized());
+    promise.resolve(trackingSource.isInitialized());
   }
 
   // MARK: - Device token
@@ -321,7 +513,7 @@ public class TelematicsSdkModule extends NativeTelematicsSdkSpec
   public void showPermissionWizard(boolean enableAggressivePermissionsWizard,
       boolean enableAggressivePermissionsWizardPage, Promise promise) {
     if (!api.areAllRequiredPermissionsGranted()) {
-      permissionsPromise = promise;
+      permissionsPromise.set(promise);
       this.getReactApplicationContext().
         startActivityForResult(PermissionsWizardActivity.Companion.getStartWizardIntent(
           this.getReactApplicationContext(),
@@ -336,15 +528,19 @@ public class TelematicsSdkModule extends NativeTelematicsSdkSpec
   private void handleWizardActivityResult(int requestCode, int resultCode, Intent data) {
     if (requestCode == PermissionsWizardActivity.WIZARD_PERMISSIONS_CODE) {
       switch (resultCode) {
-        case -1:
-          if (permissionsPromise == null) break;
-          permissionsPromise.resolve(true);
+        case -1: {
+          Promise promise = permissionsPromise.getAndSet(null);
+          if (promise == null) break;
+          promise.resolve(true);
           break;
+        }
         case 0:
-        case 1:
-          if (permissionsPromise == null) break;
-          permissionsPromise.resolve(false);
+        case 1: {
+          Promise promise = permissionsPromise.getAndSet(null);
+          if (promise == null) break;
+          promise.resolve(false);
           break;
+        }
       }
     }
   }
@@ -394,6 +590,28 @@ public class TelematicsSdkModule extends NativeTelematicsSdkSpec
     promise.resolve(api.isAccidentDetectionEnabled());
   }
 
+  // The SDK does not report accidents to the host app, so the pre-event buffer is flushed
+  // either by its own harsh braking detection or by JS (e.g. on a server-side accident push).
+
+  @Override
+  public void configurePreEventBuffer(double windowSeconds, Promise promise) {
+    int value = (int) windowSeconds;
+    if (value < 0 || value > MAX_PRE_EVENT_WINDOW_SECONDS) {
+      promise.reject("INVALID_ARGUMENT",
+        "windowSeconds must be between 0 and " + MAX_PRE_EVENT_WINDOW_SECONDS);
+      return;
+    }
+
+    preEventBuffer.setWindowMs(value * 1000L);
+    updateSdkListeners();
+    promise.resolve(null);
+  }
+
+  @Override
+  public void capturePreEventBuffer(String reason, Promise promise) {
+    promise.resolve(emitAccidentContext(reason));
+  }
+
   // MARK: - Tags API
 
   @Override
@@ -451,6 +669,71 @@ public class TelematicsSdkModule extends NativeTelematicsSdkSpec
     api.removeAllFutureTrackTags();
   }
 
+  // MARK: - Offline tag queue
+
+  @Override
+  public void getTagQueueState(Promise promise) {
+    promise.resolve(TelematicsEvents.writeTagQueueState(tagMutationQueue));
+  }
+
+  @Override
+  public void replayTagMutations(Promise promise) {
+    if (!api.isInitialized()) {
+      promise.reject("Error", "Tracking api is not initialized");
+      return;
+    }
+    tagMutationQueue.resume();
+    replayNextTagMutation();
+    promise.resolve(null);
+  }
+
+  // Sends the oldest queued mutation; the SDK result comes back through TagsProcessor,
+  // which completes it and triggers onTagQueueChanged, which sends the next one.
+  // If no result arrives, the timeout check sends it again.
+  private void replayNextTagMutation() {
+    if (!api.isInitialized()) return;
+    TagMutationQueue.Mutation mutation = tagMutationQueue.startNext(SystemClock.elapsedRealtime());
+    if (mutation == null) return;
+
+    mainHandler.removeCallbacks(tagReplayTimeout);
+    mainHandler.postDelayed(tagReplayTimeout, TagMutationQueue.IN_FLIGHT_TIMEOUT_MS);
+
+    try {
+      ensureTagsProcessingCallbackRegistered();
+      if (mutation.op == TagMutationQueue.OP_ADD) {
+        api.addFutureTrackTag(mutation.tag, mutation.source);
+      } else {
+        api.removeFutureTrackTag(mutation.tag);
+      }
+    } catch (Exception e) {
+      Log.e(TAG, "Failed to replay tag mutation", e);
+      tagMutationQueue.abortInFlight();
+    }
+  }
+
+  private void onTagQueueChanged() {
+    if (subscriptions.has(TelematicsEvents.ON_TAG_QUEUE_CHANGED)) {
+      dispatcher.post(EventDispatcher.Lane.STANDARD, TelematicsEvents.ON_TAG_QUEUE_CHANGED,
+        TelematicsEvents.writeTagQueueState(tagMutationQueue));
+    }
+    replayNextTagMutation();
+  }
+
+  private void ensureNetworkCallbackRegistered() {
+    if (networkCallbackRegistered.compareAndSet(false, true)) {
+      try {
+        connectivityManager().registerDefaultNetworkCallback(networkCallback);
+      } catch (Exception e) {
+        Log.e(TAG, "Failed to register network callback", e);
+        networkCallbackRegistered.set(false);
+      }
+    }
+  }
+
+  private ConnectivityManager connectivityManager() {
+    return (ConnectivityManager) reactContext.getSystemService(Context.CONNECTIVITY_SERVICE);
+  }
+
   // MARK: - Speed violations (flattened params)
 
   @Override
@@ -467,18 +750,95 @@ public class TelematicsSdkModule extends NativeTelematicsSdkSpec
   }
 
   void emitSpeedViolation(SpeedViolation speedViolation) {
-    WritableMap payload = Arguments.createMap();
-    payload.putDouble("date", speedViolation.getDate());
-    payload.putDouble("latitude", speedViolation.getLatitude());
-    payload.putDouble("longitude", speedViolation.getLong());
-    payload.putDouble("speed", speedViolation.getYourSpeed());
-    payload.putDouble("speedLimit", speedViolation.getSpeedLimit());
-
-    reactContext.runOnUiQueueThread(() ->
-      reactContext
-        .getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class)
-        .emit("onSpeedViolation", payload)
-    );
+    if (!subscriptions.has(TelematicsEvents.ON_SPEED_VIOLATION)) return;
+    dispatcher.post(EventDispatcher.Lane.CRITICAL, new TelematicsEvent.SpeedViolationDetected(
+      speedViolation.getDate(),
+      speedViolation.getLatitude(),
+      speedViolation.getLong(),
+      speedViolation.getYourSpeed(),
+      speedViolation.getSpeedLimit()
+    ));
+  }
+
+  // MARK: - Location batches
+
+  @Override
+  public void setLocationBatchSize(double size, Promise promise) {
+    int value = (int) size;
+    if (value < 0 || value > MAX_LOCATION_BATCH_SIZE) {
+      promise.reject("INVALID_ARGUMENT",
+        "batchSize must be between 0 and " + MAX_LOCATION_BATCH_SIZE);
+      return;
+    }
+
+    locationBatchEncoder.setCapacity(value);
+    updateSdkListeners();
+    promise.resolve(null);
+  }
+
+  @Override
+  public void flushLocationBatch(Promise promise) {
+    emitLocationBatch(locationBatchEncoder.flush());
+    promise.resolve(null);
+  }
+
+  // MARK: - Road matching
+
+  @Override
+  public void loadRoadGraph(String path, Promise promise) {
+    File file = new File(path);
+    if (!file.isFile()) {
+      promise.reject("INVALID_ARGUMENT", "Road segment file not found: " + path);
+      return;
+    }
+
+    try {
+      RoadGraph graph = RoadGraph.load(file);
+      roadMatcher = new RoadMatcher(graph);
+      promise.resolve((double) graph.size);
+    } catch (IOException e) {
+      promise.reject("IO_ERROR", e.getMessage(), e);
+    }
+  }
+
+  @Override
+  public void clearRoadGraph(Promise promise) {
+    roadMatcher = null;
+    promise.resolve(null);
+  }
+
+  // MARK: - Trip summaries
+
+  @Override
+  public void getRecentTripSummaries(Promise promise) {
+    WritableArray result = Arguments.createArray();
+    for (TripSummary summary : tripAccumulator.recent()) {
+      result.pushMap(TelematicsEvents.writeTripSummary(summary));
+    }
+    promise.resolve(result);
+  }
+
+  @Override
+  public void getTripSummary(String id, Promise promise) {
+    TripSummary summary = tripAccumulator.get(id);
+    promise.resolve(summary == null ? null : TelematicsEvents.writeTripSummary(summary));
+  }
+
+  // MARK: - Event stats
+
+  @Override
+  public void getEventStats(Promise promise) {
+    WritableMap stats = emitStats.toWritableMap(profile,
+      dispatcher.delivered(EventDispatcher.Lane.LOCATION));
+    stats.putMap("lanes", dispatcher.statsToWritableMap());
+    promise.resolve(stats);
+  }
+
+  @Override
+  public void resetEventStats(Promise promise) {
+    emitStats.reset();
+    dispatcher.resetStats();
+    promise.resolve(null);
   }
 
   // MARK: - Android-only
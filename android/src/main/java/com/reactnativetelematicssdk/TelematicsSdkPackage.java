@@ -2,6 +2,7 @@ package com.reactnativetelematicssdk;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 
 import com.facebook.react.TurboReactPackage;
 import com.facebook.react.bridge.NativeModule;
@@ -14,11 +15,24 @@ import java.util.Map;
 
 public class TelematicsSdkPackage extends TurboReactPackage {
 
+  @Nullable
+  private final TrackingSource trackingSource;
+
+  public TelematicsSdkPackage() {
+    this(null);
+  }
+
+  // Builds modules that take tracking from the given stand-in instead of the SDK.
+  @VisibleForTesting
+  public TelematicsSdkPackage(@Nullable TrackingSource trackingSource) {
+    this.trackingSource = trackingSource;
+  }
+
   @Nullable
   @Override
   public NativeModule getModule(@NonNull String name, @NonNull ReactApplicationContext reactContext) {
     if (TelematicsSdkModule.NAME.equals(name)) {
-      return new TelematicsSdkModule(reactContext);
+      return new TelematicsSdkModule(reactContext, trackingSource);
     }
     return null;
   }
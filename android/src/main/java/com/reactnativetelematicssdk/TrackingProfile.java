@@ -0,0 +1,58 @@
+package com.reactnativetelematicssdk;
+
+import androidx.annotation.Nullable;
+
+import com.telematicssdk.tracking.Settings;
+
+// Named SDK settings presets, each paired with the minimum interval between
+// onLocationChanged events forwarded to JS.
+//
+// The SDK only publishes its high-accuracy defaults (Settings.getStopTrackingTimeHigh() and
+// Settings.getAccuracyHigh()), so the other presets are derived from them rather than
+// hard-coded. Units follow the SDK Settings: stop tracking timeout in minutes without
+// movement, accuracy as the accepted GPS accuracy radius in meters.
+enum TrackingProfile {
+  // SDK defaults and no minimum interval; the pre-profile default. As under every profile,
+  // a fix still waiting for delivery is replaced by a newer one (EventDispatcher).
+  HIGH_FIDELITY("highFidelity", Settings.getStopTrackingTimeHigh(), Settings.getAccuracyHigh(), true, 0L),
+  // Half the stop timeout, twice the accuracy radius, at most one fix per second.
+  BALANCED("balanced",
+    Math.max(1, Settings.getStopTrackingTimeHigh() / 2), Settings.getAccuracyHigh() * 2, true, 1000L),
+  // A quarter of the stop timeout, five times the accuracy radius, no passive start
+  // detection, at most one fix every five seconds.
+  LOW_POWER("lowPower",
+    Math.max(1, Settings.getStopTrackingTimeHigh() / 4), Settings.getAccuracyHigh() * 5, false, 5000L);
+
+  final String jsName;
+  final long minLocationIntervalMs;
+  private final int stopTrackingTimeout;
+  private final int accuracy;
+  private final boolean passiveDetection;
+
+  TrackingProfile(String jsName, int stopTrackingTimeout, int accuracy,
+      boolean passiveDetection, long minLocationIntervalMs) {
+    this.jsName = jsName;
+    this.stopTrackingTimeout = stopTrackingTimeout;
+    this.accuracy = accuracy;
+    this.passiveDetection = passiveDetection;
+    this.minLocationIntervalMs = minLocationIntervalMs;
+  }
+
+  Settings toSettings() {
+    return new Settings()
+      .stopTrackingTimeout(stopTrackingTimeout)
+      .accuracy(accuracy)
+      .autoStartOn(true)
+      .passiveDetectionOn(passiveDetection);
+  }
+
+  @Nullable
+  static TrackingProfile fromJsName(String jsName) {
+    for (TrackingProfile profile : values()) {
+      if (profile.jsName.equals(jsName)) {
+        return profile;
+      }
+    }
+    return null;
+  }
+}
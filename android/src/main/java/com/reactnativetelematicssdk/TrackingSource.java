@@ -0,0 +1,31 @@
+package com.reactnativetelematicssdk;
+
+import android.location.Location;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+// Where the module initializes tracking and takes its location and tracking-state callbacks
+// from. The default is the SDK's TrackingApi (SdkTrackingSource); the types here are the
+// module's own, so host apps never need the SDK on their compile classpath to provide a
+// stand-in, e.g. one that replays recorded fixes in a benchmark.
+public interface TrackingSource {
+
+  interface Listener {
+    void onLocationChanged(@NonNull Location location);
+
+    void onTrackingStateChanged(boolean tracking);
+  }
+
+  boolean isInitialized();
+
+  void initialize();
+
+  boolean isTracking();
+
+  // Replaces the location listener; null detaches it.
+  void setLocationListener(@Nullable Listener listener);
+
+  // Replaces the tracking-state listener; null detaches it.
+  void setTrackingStateListener(@Nullable Listener listener);
+}
@@ -4,18 +4,18 @@ import com.telematicssdk.tracking.TrackingStateListener;
 
 public class TrackingStateListenerImpl implements TrackingStateListener {
 
-  private final TelematicsSdkModule module;
+  private final TrackingSource.Listener listener;
 
-  public TrackingStateListenerImpl(TelematicsSdkModule module) {
-    this.module = module;
+  public TrackingStateListenerImpl(TrackingSource.Listener listener) {
+    this.listener = listener;
   }
   @Override
   public void onStartTracking() {
-    module.emitTrackingStateChanged(true);
+    listener.onTrackingStateChanged(true);
   }
 
   @Override
   public void onStopTracking() {
-    module.emitTrackingStateChanged(false);
+    listener.onTrackingStateChanged(false);
   }
 }
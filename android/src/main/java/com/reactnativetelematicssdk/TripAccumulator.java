@@ -0,0 +1,151 @@
+package com.reactnativetelematicssdk;
+
+import android.location.Location;
+
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Builds trip summaries incrementally from tracking start/stop and location fixes,
+// and keeps the most recently used summaries in memory.
+class TripAccumulator {
+
+  private static final int MAX_SUMMARIES = 20;
+  private static final int GEOHASH_PRECISION = 7;
+  // Below this speed (m/s, ~3.6 km/h) time between fixes counts as idle.
+  private static final double IDLE_SPEED_MS = 1.0;
+  private static final double EARTH_RADIUS_METERS = 6_371_000.0;
+
+  private final Map<String, TripSummary> summaries =
+    new LinkedHashMap<String, TripSummary>(MAX_SUMMARIES, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, TripSummary> eldest) {
+        return size() > MAX_SUMMARIES;
+      }
+    };
+
+  private boolean active = false;
+  private long startTimeMs;
+  private int fixCount;
+  private double distanceMeters;
+  private double maxSpeedMs;
+  private long idleTimeMs;
+  private double firstLatitude;
+  private double firstLongitude;
+  private double lastLatitude;
+  private double lastLongitude;
+  private long lastTimeMs;
+  private double minLatitude;
+  private double minLongitude;
+  private double maxLatitude;
+  private double maxLongitude;
+
+  synchronized void start(long timeMs) {
+    active = true;
+    startTimeMs = timeMs;
+    fixCount = 0;
+    distanceMeters = 0;
+    maxSpeedMs = 0;
+    idleTimeMs = 0;
+  }
+
+  // Joins a trip that was already running when tracking callbacks were attached, e.g. after
+  // an app restart mid-drive. The summary then starts at the join time.
+  synchronized void startIfInactive(long timeMs) {
+    if (!active) {
+      start(timeMs);
+    }
+  }
+
+  void add(Location location) {
+    add(location.getLatitude(), location.getLongitude(), location.getTime(),
+      location.hasSpeed() ? location.getSpeed() : Double.NaN);
+  }
+
+  // speedMs is NaN when the fix has no speed; it is then derived from the distance covered.
+  synchronized void add(double latitude, double longitude, long timeMs, double speedMs) {
+    if (!active) return;
+
+    if (fixCount == 0) {
+      firstLatitude = latitude;
+      firstLongitude = longitude;
+      minLatitude = maxLatitude = latitude;
+      minLongitude = maxLongitude = longitude;
+    } else {
+      double segmentMeters = distanceMeters(lastLatitude, lastLongitude, latitude, longitude);
+      long dtMs = Math.max(0, timeMs - lastTimeMs);
+      if (Double.isNaN(speedMs)) {
+        speedMs = dtMs > 0 ? segmentMeters * 1000.0 / dtMs : 0;
+      }
+
+      distanceMeters += segmentMeters;
+      maxSpeedMs = Math.max(maxSpeedMs, speedMs);
+      if (speedMs < IDLE_SPEED_MS) {
+        idleTimeMs += dtMs;
+      }
+      minLatitude = Math.min(minLatitude, latitude);
+      maxLatitude = Math.max(maxLatitude, latitude);
+      minLongitude = Math.min(minLongitude, longitude);
+      maxLongitude = Math.max(maxLongitude, longitude);
+    }
+
+    lastLatitude = latitude;
+    lastLongitude = longitude;
+    lastTimeMs = timeMs;
+    fixCount++;
+  }
+
+  // Closes the active trip; returns null when no trip was active or it had no fixes.
+  @Nullable
+  synchronized TripSummary stop(long timeMs) {
+    if (!active) return null;
+    active = false;
+    if (fixCount == 0) return null;
+
+    long endTimeMs = Math.max(timeMs, lastTimeMs);
+    long movingMs = Math.max(0, endTimeMs - startTimeMs - idleTimeMs);
+    TripSummary summary = new TripSummary(
+      String.valueOf(startTimeMs),
+      startTimeMs,
+      endTimeMs,
+      fixCount,
+      distanceMeters,
+      movingMs > 0 ? distanceMeters * 1000.0 / movingMs : 0,
+      maxSpeedMs,
+      idleTimeMs,
+      minLatitude,
+      minLongitude,
+      maxLatitude,
+      maxLongitude,
+      Geohash.encode(firstLatitude, firstLongitude, GEOHASH_PRECISION),
+      Geohash.encode(lastLatitude, lastLongitude, GEOHASH_PRECISION)
+    );
+    summaries.put(summary.id, summary);
+    return summary;
+  }
+
+  @Nullable
+  synchronized TripSummary get(String id) {
+    return summaries.get(id);
+  }
+
+  // Most recently used first.
+  synchronized List<TripSummary> recent() {
+    List<TripSummary> result = new ArrayList<>(summaries.values());
+    Collections.reverse(result);
+    return result;
+  }
+
+  private static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+    double dLat = Math.toRadians(lat2 - lat1);
+    double dLon = Math.toRadians(lon2 - lon1);
+    double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+      + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+      * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+    return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+  }
+}
@@ -0,0 +1,44 @@
+package com.reactnativetelematicssdk;
+
+// Aggregates of one completed trip, built by TripAccumulator.
+final class TripSummary {
+
+  final String id;
+  final long startTimeMs;
+  final long endTimeMs;
+  final int fixCount;
+  final double distanceMeters;
+  final double averageSpeedMs;
+  final double maxSpeedMs;
+  final long idleTimeMs;
+  final double minLatitude;
+  final double minLongitude;
+  final double maxLatitude;
+  final double maxLongitude;
+  final String startGeohash;
+  final String endGeohash;
+
+  TripSummary(String id, long startTimeMs, long endTimeMs, int fixCount,
+      double distanceMeters, double averageSpeedMs, double maxSpeedMs, long idleTimeMs,
+      double minLatitude, double minLongitude, double maxLatitude, double maxLongitude,
+      String startGeohash, String endGeohash) {
+    this.id = id;
+    this.startTimeMs = startTimeMs;
+    this.endTimeMs = endTimeMs;
+    this.fixCount = fixCount;
+    this.distanceMeters = distanceMeters;
+    this.averageSpeedMs = averageSpeedMs;
+    this.maxSpeedMs = maxSpeedMs;
+    this.idleTimeMs = idleTimeMs;
+    this.minLatitude = minLatitude;
+    this.minLongitude = minLongitude;
+    this.maxLatitude = maxLatitude;
+    this.maxLongitude = maxLongitude;
+    this.startGeohash = startGeohash;
+    this.endGeohash = endGeohash;
+  }
+
+  long durationMs() {
+    return endTimeMs - startTimeMs;
+  }
+}
@@ -0,0 +1,170 @@
+package com.reactnativetelematicssdk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class EventSubscriptionsTest {
+
+  private static final String LOCATION = TelematicsEvents.ON_LOCATION_CHANGED;
+  private static final String TRACKING = TelematicsEvents.ON_TRACKING_STATE_CHANGED;
+  private static final int THREADS = 8;
+  private static final int ITERATIONS = 20_000;
+
+  // Mirrors what JS does: addListener(name), then removeEventListener(name) and
+  // removeListeners(1) when the subscription is removed.
+  private static void subscribeAndRelease(EventSubscriptions subscriptions, String eventName) {
+    subscriptions.add(eventName);
+    subscriptions.remove(eventName);
+    subscriptions.removeTotal(1);
+  }
+
+  @Test
+  public void balancedSubscriptionsFromManyThreadsReleaseEverything() throws Exception {
+    EventSubscriptions subscriptions = new EventSubscriptions();
+    runConcurrently(THREADS, worker -> {
+      String eventName = worker % 2 == 0 ? LOCATION : TRACKING;
+      for (int i = 0; i < ITERATIONS; i++) {
+        subscribeAndRelease(subscriptions, eventName);
+      }
+    });
+
+    assertFalse(subscriptions.has(LOCATION));
+    assertFalse(subscriptions.has(TRACKING));
+    // A lost update would leave the total above zero and keep stale counts alive.
+    subscriptions.add(LOCATION);
+    subscriptions.removeTotal(1);
+    assertFalse(subscriptions.has(LOCATION));
+  }
+
+  @Test
+  public void heldSubscriptionStaysVisibleWhileOthersChurn() throws Exception {
+    EventSubscriptions subscriptions = new EventSubscriptions();
+    subscriptions.add(LOCATION);
+    AtomicInteger missed = new AtomicInteger();
+    AtomicBoolean running = new AtomicBoolean(true);
+
+    ExecutorService callbacks = Executors.newSingleThreadExecutor();
+    Future<?> callback = callbacks.submit(() -> {
+      while (running.get()) {
+        if (!subscriptions.has(LOCATION)) {
+          missed.incrementAndGet();
+        }
+      }
+    });
+    runConcurrently(THREADS, worker -> {
+      for (int i = 0; i < ITERATIONS; i++) {
+        subscribeAndRelease(subscriptions, worker % 2 == 0 ? LOCATION : TRACKING);
+      }
+    });
+    running.set(false);
+    callback.get(10, TimeUnit.SECONDS);
+    callbacks.shutdown();
+
+    assertEquals(0, missed.get());
+    assertTrue(subscriptions.has(LOCATION));
+  }
+
+  // The first events after addListener: once add() returns, every callback that starts
+  // afterwards on another thread must see the subscriber, so no fix is dropped.
+  @Test
+  public void callbacksAfterSubscribeAreNeverDropped() throws Exception {
+    for (int round = 0; round < 200; round++) {
+      EventSubscriptions subscriptions = new EventSubscriptions();
+      AtomicLong sequence = new AtomicLong();
+      AtomicLong subscribedAt = new AtomicLong(Long.MAX_VALUE);
+      AtomicInteger dropped = new AtomicInteger();
+      AtomicInteger delivered = new AtomicInteger();
+      CountDownLatch started = new CountDownLatch(1);
+
+      ExecutorService callbacks = Executors.newSingleThreadExecutor();
+      Future<?> callback = callbacks.submit(() -> {
+        started.countDown();
+        while (delivered.get() < 100) {
+          long event = sequence.incrementAndGet();
+          if (subscriptions.has(LOCATION)) {
+            delivered.incrementAndGet();
+          } else if (event > subscribedAt.get()) {
+            dropped.incrementAndGet();
+          }
+        }
+      });
+      started.await();
+      subscriptions.add(LOCATION);
+      subscribedAt.set(sequence.get());
+      callback.get(10, TimeUnit.SECONDS);
+      callbacks.shutdown();
+
+      assertEquals("round " + round, 0, dropped.get());
+    }
+  }
+
+  @Test
+  public void invalidateDuringCallbacksAndSubscriptionsLeavesConsistentState() throws Exception {
+    EventSubscriptions subscriptions = new EventSubscriptions();
+    AtomicBoolean running = new AtomicBoolean(true);
+    ExecutorService callbacks = Executors.newSingleThreadExecutor();
+    Future<?> callback = callbacks.submit(() -> {
+      while (running.get()) {
+        subscriptions.has(LOCATION);
+        subscriptions.has(TRACKING);
+      }
+    });
+    runConcurrently(THREADS, worker -> {
+      for (int i = 0; i < ITERATIONS; i++) {
+        if (worker == 0 && i % 100 == 0) {
+          subscriptions.clear();
+        } else {
+          subscribeAndRelease(subscriptions, worker % 2 == 0 ? LOCATION : TRACKING);
+        }
+      }
+    });
+    running.set(false);
+    callback.get(10, TimeUnit.SECONDS);
+    callbacks.shutdown();
+
+    // Releases racing with clear() may be dropped, but the state must stay usable.
+    subscriptions.clear();
+    assertFalse(subscriptions.has(LOCATION));
+    subscriptions.add(LOCATION);
+    assertTrue(subscriptions.has(LOCATION));
+    subscriptions.removeTotal(1);
+    assertFalse(subscriptions.has(LOCATION));
+  }
+
+  private interface Worker {
+    void run(int worker) throws Exception;
+  }
+
+  private static void runConcurrently(int threads, Worker worker) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> futures = new ArrayList<>();
+    for (int i = 0; i < threads; i++) {
+      int index = i;
+      futures.add(executor.submit(() -> {
+        start.await();
+        worker.run(index);
+        return null;
+      }));
+    }
+    start.countDown();
+    for (Future<?> future : futures) {
+      future.get(60, TimeUnit.SECONDS);
+    }
+    executor.shutdown();
+  }
+}
@@ -0,0 +1,94 @@
+package com.reactnativetelematicssdk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+public class RoadGraphTest {
+
+  private File file;
+
+  @Before
+  public void setUp() throws IOException {
+    file = File.createTempFile("road-graph", ".bin");
+  }
+
+  @After
+  public void tearDown() {
+    file.delete();
+  }
+
+  @Test
+  public void longDiagonalIsRegisteredAlongItsPathOnly() throws IOException {
+    // ~20 km north-east; its bounding box would cover ~8,000 cells.
+    write(new float[][] {{52.0f, 13.0f, 52.18f, 13.18f}});
+    RoadGraph graph = RoadGraph.load(file);
+
+    assertEquals(1, graph.size);
+    assertNotNull(graph.segmentsIn(RoadGraph.row(52.0), RoadGraph.column(13.0)));
+    assertNotNull(graph.segmentsIn(RoadGraph.row(52.09), RoadGraph.column(13.09)));
+    assertNotNull(graph.segmentsIn(RoadGraph.row(52.18), RoadGraph.column(13.18)));
+    assertNull(graph.segmentsIn(RoadGraph.row(52.0), RoadGraph.column(13.18)));
+    assertNull(graph.segmentsIn(RoadGraph.row(52.18), RoadGraph.column(13.0)));
+  }
+
+  @Test
+  public void nonFiniteCoordinatesAreRejected() throws IOException {
+    write(new float[][] {{52.0f, 13.0f, Float.NaN, 13.1f}});
+    assertRejected();
+    write(new float[][] {{52.0f, Float.POSITIVE_INFINITY, 52.1f, 13.1f}});
+    assertRejected();
+  }
+
+  @Test
+  public void outOfRangeCoordinatesAreRejected() throws IOException {
+    write(new float[][] {{91.0f, 13.0f, 52.0f, 13.1f}});
+    assertRejected();
+    write(new float[][] {{52.0f, 13.0f, 52.1f, -181.0f}});
+    assertRejected();
+  }
+
+  @Test
+  public void segmentsSpanningTooManyCellsAreRejected() throws IOException {
+    // Crosses the antimeridian the long way round.
+    write(new float[][] {{10.0f, 179.9f, 10.0f, -179.9f}});
+    assertRejected();
+  }
+
+  private void assertRejected() {
+    try {
+      RoadGraph.load(file);
+      fail("Expected an IOException");
+    } catch (IOException expected) {
+    }
+  }
+
+  // Each segment is {lat1, lon1, lat2, lon2}; ids are the segment indexes.
+  private void write(float[][] segments) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(12 + segments.length * 28).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.putInt(RoadGraph.MAGIC);
+    buffer.putInt(RoadGraph.VERSION);
+    buffer.putInt(segments.length);
+    for (int i = 0; i < segments.length; i++) {
+      buffer.putLong(i);
+      for (float value : segments[i]) {
+        buffer.putFloat(value);
+      }
+      buffer.putFloat(50f);
+    }
+    try (FileOutputStream output = new FileOutputStream(file)) {
+      output.write(buffer.array());
+    }
+  }
+}
@@ -0,0 +1,146 @@
+package com.reactnativetelematicssdk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+public class TagMutationQueueTest {
+
+  private File file;
+
+  @Before
+  public void setUp() throws IOException {
+    file = File.createTempFile("tag-mutations", ".log");
+    file.delete();
+  }
+
+  @After
+  public void tearDown() {
+    file.delete();
+    new File(file.getPath() + ".tmp").delete();
+  }
+
+  private TagMutationQueue open() {
+    return new TagMutationQueue(file, () -> { });
+  }
+
+  @Test
+  public void addFollowedByRemoveCancelsOut() {
+    TagMutationQueue queue = open();
+    queue.enqueue(TagMutationQueue.OP_ADD, "x", "app");
+    queue.enqueue(TagMutationQueue.OP_REMOVE, "x", null);
+
+    assertEquals(0, queue.depth());
+    assertEquals(0, open().depth());
+  }
+
+  @Test
+  public void deliveredMutationIsGoneAfterRestart() {
+    TagMutationQueue queue = open();
+    queue.enqueue(TagMutationQueue.OP_ADD, "x", "app");
+    queue.resume();
+    assertNotNull(queue.startNext(0));
+    assertTrue(queue.completeInFlight(TagMutationQueue.OP_ADD, "x", false));
+
+    assertEquals(0, queue.depth());
+    assertEquals(0, open().depth());
+  }
+
+  // ADD x is being replayed, REMOVE x comes back offline meanwhile, then the ADD succeeds.
+  // After a restart the REMOVE must still be pending, not cancelled against the delivered ADD.
+  @Test
+  public void removeQueuedWhileAddInFlightSurvivesRestart() {
+    TagMutationQueue queue = open();
+    queue.enqueue(TagMutationQueue.OP_ADD, "x", "app");
+    queue.resume();
+    TagMutationQueue.Mutation add = queue.startNext(0);
+    assertNotNull(add);
+    assertEquals(TagMutationQueue.OP_ADD, add.op);
+
+    queue.enqueue(TagMutationQueue.OP_REMOVE, "x", null);
+    assertTrue(queue.completeInFlight(TagMutationQueue.OP_ADD, "x", false));
+    assertEquals(1, queue.depth());
+
+    TagMutationQueue restarted = open();
+    assertEquals(1, restarted.depth());
+    TagMutationQueue.Mutation next = restarted.startNext(0);
+    assertNotNull(next);
+    assertEquals(TagMutationQueue.OP_REMOVE, next.op);
+    assertEquals("x", next.tag);
+  }
+
+  @Test
+  public void retriedMutationStaysQueuedAndPausesReplay() {
+    TagMutationQueue queue = open();
+    queue.enqueue(TagMutationQueue.OP_ADD, "x", "app");
+    queue.resume();
+    assertNotNull(queue.startNext(0));
+    assertTrue(queue.completeInFlight(TagMutationQueue.OP_ADD, "x", true));
+
+    assertEquals(1, queue.depth());
+    assertNull(queue.startNext(0));
+    queue.resume();
+    assertNotNull(queue.startNext(0));
+  }
+
+  @Test
+  public void unansweredMutationIsSentAgainAfterTimeout() {
+    TagMutationQueue queue = open();
+    queue.enqueue(TagMutationQueue.OP_ADD, "x", "app");
+    queue.resume();
+    assertNotNull(queue.startNext(1_000));
+
+    assertNull(queue.startNext(1_000 + TagMutationQueue.IN_FLIGHT_TIMEOUT_MS - 1));
+    TagMutationQueue.Mutation resent = queue.startNext(1_000 + TagMutationQueue.IN_FLIGHT_TIMEOUT_MS);
+    assertNotNull(resent);
+    assertEquals("x", resent.tag);
+    assertTrue(queue.completeInFlight(TagMutationQueue.OP_ADD, "x", false));
+    assertEquals(0, queue.depth());
+  }
+
+  // A record cut off mid-string fails with UTFDataFormatException rather than EOFException.
+  // The log must still be rewritten, or mutations appended after the garbage are lost.
+  @Test
+  public void mutationsAppendedAfterACorruptedRecordSurviveRestart() throws IOException {
+    open().enqueue(TagMutationQueue.OP_ADD, "x", "app");
+    try (FileOutputStream output = new FileOutputStream(file, true)) {
+      // ADD, then a UTF length of 2 followed by an invalid two-byte sequence.
+      output.write(new byte[] {TagMutationQueue.OP_ADD, 0, 2, (byte) 0xC0, 0x00});
+    }
+
+    TagMutationQueue restarted = open();
+    assertEquals(1, restarted.depth());
+    restarted.enqueue(TagMutationQueue.OP_ADD, "y", "app");
+
+    assertEquals(2, open().depth());
+  }
+
+  @Test
+  public void unknownOpIsNotReplayed() throws IOException {
+    open().enqueue(TagMutationQueue.OP_ADD, "x", "app");
+    try (DataOutputStream output = new DataOutputStream(new FileOutputStream(file, true))) {
+      output.writeByte(9);
+      output.writeUTF("y");
+      output.writeBoolean(false);
+    }
+
+    TagMutationQueue restarted = open();
+    assertEquals(1, restarted.depth());
+    restarted.resume();
+    TagMutationQueue.Mutation next = restarted.startNext(0);
+    assertNotNull(next);
+    assertEquals("x", next.tag);
+    assertTrue(restarted.completeInFlight(TagMutationQueue.OP_ADD, "x", false));
+    assertNull(restarted.startNext(0));
+  }
+}
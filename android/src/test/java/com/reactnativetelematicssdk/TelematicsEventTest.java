@@ -0,0 +1,76 @@
+package com.reactnativetelematicssdk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+public class TelematicsEventTest {
+
+  private File file;
+
+  @Before
+  public void setUp() throws IOException {
+    file = File.createTempFile("road-graph", ".bin");
+  }
+
+  @After
+  public void tearDown() {
+    file.delete();
+  }
+
+  @Test
+  public void matchedFixCarriesTheSegment() throws IOException {
+    RoadGraph graph = graphWithSegment(7L, 80f);
+    TelematicsEvent.LocationChanged event = new TelematicsEvent.LocationChanged();
+    event.set(52.5, 13.4, graph, 0);
+
+    assertEquals(TelematicsEvents.ON_LOCATION_CHANGED, event.name);
+    assertEquals(52.5, event.latitude, 0);
+    assertEquals(13.4, event.longitude, 0);
+    assertTrue(event.matched);
+    assertEquals(7L, event.roadSegmentId);
+    assertEquals(80f, event.roadSpeedLimit, 0);
+  }
+
+  // Location events are recycled by the dispatcher, so a reused one must not keep the road
+  // match of the previous fix.
+  @Test
+  public void reusedEventDropsThePreviousMatch() throws IOException {
+    RoadGraph graph = graphWithSegment(7L, 80f);
+    TelematicsEvent.LocationChanged event = new TelematicsEvent.LocationChanged();
+    event.set(52.5, 13.4, graph, 0);
+
+    event.set(52.6, 13.5, graph, -1);
+    assertFalse(event.matched);
+    assertEquals(0L, event.roadSegmentId);
+    assertEquals(52.6, event.latitude, 0);
+
+    event.set(52.5, 13.4, graph, 0);
+    event.set(52.7, 13.6, null, 0);
+    assertFalse(event.matched);
+  }
+
+  private RoadGraph graphWithSegment(long id, float speedLimit) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(12 + 28).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.putInt(RoadGraph.MAGIC);
+    buffer.putInt(RoadGraph.VERSION);
+    buffer.putInt(1);
+    buffer.putLong(id);
+    buffer.putFloat(52.5f).putFloat(13.4f).putFloat(52.501f).putFloat(13.4f);
+    buffer.putFloat(speedLimit);
+    try (FileOutputStream output = new FileOutputStream(file)) {
+      output.write(buffer.array());
+    }
+    return RoadGraph.load(file);
+  }
+}
@@ -0,0 +1,108 @@
+package com.reactnativetelematicssdk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import java.util.List;
+
+public class TripAccumulatorTest {
+
+  // One thousandth of a degree of latitude, in meters, for a 6,371 km Earth radius.
+  private static final double MILLIDEGREE_METERS = 111.195;
+
+  @Test
+  public void distanceIsSummedBetweenConsecutiveFixes() {
+    TripAccumulator trips = new TripAccumulator();
+    trips.start(0);
+    trips.add(52.000, 13.0, 0, 10);
+    trips.add(52.001, 13.0, 10_000, 10);
+    trips.add(52.003, 13.0, 20_000, 20);
+    TripSummary summary = trips.stop(20_000);
+
+    assertNotNull(summary);
+    assertEquals(3, summary.fixCount);
+    assertEquals(3 * MILLIDEGREE_METERS, summary.distanceMeters, 0.01);
+    assertEquals(20, summary.maxSpeedMs, 0);
+    assertEquals(52.000, summary.minLatitude, 0);
+    assertEquals(52.003, summary.maxLatitude, 0);
+  }
+
+  @Test
+  public void speedIsDerivedFromDistanceWhenFixesHaveNone() {
+    TripAccumulator trips = new TripAccumulator();
+    trips.start(0);
+    trips.add(52.000, 13.0, 0, Double.NaN);
+    trips.add(52.001, 13.0, 10_000, Double.NaN);
+    TripSummary summary = trips.stop(10_000);
+
+    assertNotNull(summary);
+    assertEquals(MILLIDEGREE_METERS / 10, summary.maxSpeedMs, 0.01);
+    assertEquals(0, summary.idleTimeMs);
+  }
+
+  @Test
+  public void slowSegmentsCountAsIdleAndNotAsMovingTime() {
+    TripAccumulator trips = new TripAccumulator();
+    trips.start(0);
+    trips.add(52.0, 13.0, 0, 0);
+    trips.add(52.0, 13.0, 30_000, 0.5);
+    trips.add(52.001, 13.0, 40_000, 10);
+    TripSummary summary = trips.stop(40_000);
+
+    assertNotNull(summary);
+    assertEquals(30_000, summary.idleTimeMs);
+    // Average speed over the 10 s moving, not over the whole 40 s.
+    assertEquals(MILLIDEGREE_METERS / 10, summary.averageSpeedMs, 0.01);
+  }
+
+  @Test
+  public void fixesOutsideATripAreIgnored() {
+    TripAccumulator trips = new TripAccumulator();
+    trips.add(52.0, 13.0, 0, 10);
+    assertNull(trips.stop(0));
+
+    trips.start(0);
+    assertNull(trips.stop(1000));
+    assertEquals(0, trips.recent().size());
+  }
+
+  @Test
+  public void startIfInactiveKeepsARunningTrip() {
+    TripAccumulator trips = new TripAccumulator();
+    trips.start(1000);
+    trips.add(52.0, 13.0, 1000, 10);
+    trips.startIfInactive(5000);
+    trips.add(52.001, 13.0, 6000, 10);
+    TripSummary summary = trips.stop(6000);
+
+    assertNotNull(summary);
+    assertEquals(1000, summary.startTimeMs);
+    assertEquals(2, summary.fixCount);
+  }
+
+  @Test
+  public void recentIsMostRecentlyUsedFirstAndEvictsTheLeastRecentlyUsed() {
+    TripAccumulator trips = new TripAccumulator();
+    for (int i = 0; i < 21; i++) {
+      long startMs = i * 1000L;
+      trips.start(startMs);
+      trips.add(52.0, 13.0, startMs, 10);
+      trips.stop(startMs + 500);
+      if (i == 1) {
+        // Reading the first trip makes the second one the least recently used.
+        assertNotNull(trips.get("0"));
+      }
+    }
+
+    List<TripSummary> recent = trips.recent();
+    assertEquals(20, recent.size());
+    assertEquals("20000", recent.get(0).id);
+    assertNull(trips.get("1000"));
+    assertNotNull(trips.get("0"));
+    // get() above moved trip 0 to the front.
+    assertEquals("0", trips.recent().get(0).id);
+  }
+}
@@ -0,0 +1,423 @@
+package com.example.reactnativetelematicssdk;
+
+import android.location.Location
+import android.os.Build
+import android.os.Debug
+import android.os.Process
+import android.os.SystemClock
+import android.util.Log
+import com.facebook.react.ReactHost
+import com.facebook.react.ReactInstanceEventListener
+import com.facebook.react.bridge.PromiseImpl
+import com.facebook.react.bridge.ReactContext
+import com.facebook.react.bridge.ReadableMap
+import com.facebook.react.bridge.WritableNativeMap
+import com.reactnativetelematicssdk.TelematicsSdkModule
+import com.reactnativetelematicssdk.TrackingSource
+import org.json.JSONArray
+import org.json.JSONObject
+import java.io.File
+import java.nio.ByteBuffer
+import java.nio.ByteOrder
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import kotlin.math.ceil
+
+/**
+ * Measures the bridge layer of the Telematics SDK module without a real drive:
+ * time from [MainApplication] start to module resolution and to `initializeSdk` resolving,
+ * the latency of the first location event after `addListener`, and the sustained event rate
+ * when fixes are replayed at fixed frequencies under each tracking profile. One more replay
+ * runs with and without a road graph along the path to measure road matching cost, and the
+ * objects allocated per fix are counted for the emit path and for the per-fix map it replaced.
+ *
+ * [MainActivity] has the module built with [trackingSource] in place of the SDK, and the app
+ * leaves the SDK alone in benchmark mode, so `initializeSdk` initializes the stand-in and only
+ * replayed fixes reach the module. The report is written as JSON to
+ * `Android/data/<package>/files/benchmark/bridge-benchmark.json`.
+ *
+ * Start it cold with `adb shell am start -S -n <package>/.MainActivity --ez benchmark true`,
+ * optionally with `--ei benchmarkSeconds <n>` per profile and replay frequency (default 10).
+ */
+class BridgeBenchmark(
+  private val reactHost: ReactHost,
+  private val replaySeconds: Int,
+) {
+
+  private val executor = Executors.newSingleThreadExecutor()
+
+  fun start() {
+    val context = reactHost.currentReactContext
+    if (context != null) {
+      executor.execute { run(context) }
+      return
+    }
+    reactHost.addReactInstanceEventListener(object : ReactInstanceEventListener {
+      override fun onReactContextInitialized(context: ReactContext) {
+        reactHost.removeReactInstanceEventListener(this)
+        executor.execute { run(context) }
+      }
+    })
+  }
+
+  private fun run(context: ReactContext) {
+    val report = JSONObject()
+    try {
+      report.put("device", deviceInfo())
+      val startup = JSONObject()
+      report.put("startup", startup)
+      val module = measureStartup(context, startup)
+      val previousProfile = await { promise -> module.getTrackingProfile(promise) } as String
+      try {
+        measureEvents(context, module, report)
+      } finally {
+        // Profiles are persisted, so a failed run must not leave the app on the last one.
+        await { promise -> module.setTrackingProfile(previousProfile, promise) }
+      }
+    } catch (e: Exception) {
+      Log.e(TAG, "Benchmark failed", e)
+      report.put("error", e.toString())
+    }
+
+    val dir = context.getExternalFilesDir("benchmark") ?: context.filesDir
+    val file = File(dir, REPORT_FILE)
+    file.writeText(report.toString(2))
+    Log.i(TAG, "Benchmark report written to ${file.absolutePath}")
+    executor.shutdown()
+  }
+
+  private fun measureEvents(context: ReactContext, module: TelematicsSdkModule, report: JSONObject) {
+    // The high fidelity profile has no minimum interval, so the first event is never throttled.
+    await { promise -> module.setTrackingProfile(TRACKING_PROFILES.first(), promise) }
+    val replay = FixReplay()
+    try {
+      report.put("firstEvent", measureFirstEvent(context, module, replay))
+      trackingSource.setTracking(true)
+      // Each profile throttles fixes differently, so every profile is replayed at every rate.
+      val profiles = JSONArray()
+      for (profile in TRACKING_PROFILES) {
+        await { promise -> module.setTrackingProfile(profile, promise) }
+        val rates = JSONArray()
+        for (hz in REPLAY_FREQUENCIES_HZ) {
+          rates.put(measureRate(context, module, replay, hz))
+        }
+        profiles.put(JSONObject().put("profile", profile).put("sustainedRate", rates))
+      }
+      report.put("profiles", profiles)
+      report.put("roadMatching", measureRoadMatching(context, module))
+      report.put("allocations", measureAllocations(context, module))
+    } finally {
+      trackingSource.setTracking(false)
+      // Released the way a JS subscription is: by count, then by name.
+      module.removeListeners(1.0)
+      module.removeEventListener(EVENT_LOCATION_CHANGED)
+    }
+  }
+
+  // Replays the same stretch at the highest rate without and then with a road graph laid
+  // along it, so the difference in emit cost is the cost of matching each fix.
+  private fun measureRoadMatching(context: ReactContext, module: TelematicsSdkModule): JSONObject {
+    val hz = REPLAY_FREQUENCIES_HZ.last()
+    await { promise -> module.setTrackingProfile(TRACKING_PROFILES.first(), promise) }
+    val withoutGraph = measureRate(context, module, FixReplay(), hz)
+
+    val fixture = writeRoadFixture(
+      File(context.cacheDir, ROAD_FIXTURE_FILE),
+      SPEED_MS * replaySeconds + ROAD_SEGMENT_METERS,
+    )
+    try {
+      val segments = await { promise -> module.loadRoadGraph(fixture.absolutePath, promise) } as Double
+      val withGraph = measureRate(context, module, FixReplay(), hz)
+      return JSONObject()
+        .put("segments", segments.toInt())
+        .put("withoutGraph", withoutGraph)
+        .put("withGraph", withGraph)
+    } finally {
+      await { promise -> module.clearRoadGraph(promise) }
+      fixture.delete()
+    }
+  }
+
+  // Counts allocations per fix. "mapPerFix" is the emit path before typed events, which built
+  // a native map on the SDK callback thread for every fix. "typedEvents" is the current path:
+  // the callback thread count covers queuing only, and the process-wide count adds the drain
+  // on the UI queue thread, which writes maps only for the fixes that reach JS.
+  @Suppress("DEPRECATION")
+  private fun measureAllocations(context: ReactContext, module: TelematicsSdkModule): JSONObject {
+    await { promise -> module.setTrackingProfile(TRACKING_PROFILES.first(), promise) }
+    await { promise -> module.resetEventStats(promise) }
+    val replay = FixReplay()
+    // Built up front so the fixes themselves are not counted.
+    val fixes = List(ALLOCATION_FIX_COUNT) { replay.next(ALLOCATION_STEP_MS) }
+
+    Debug.startAllocCounting()
+    try {
+      Debug.resetThreadAllocCount()
+      for (fix in fixes) {
+        WritableNativeMap().apply {
+          putDouble("latitude", fix.latitude)
+          putDouble("longitude", fix.longitude)
+        }
+      }
+      val mapPerFix = allocationCounts(
+        Debug.getThreadAllocCount(), Debug.getThreadAllocSize(), fixes.size)
+
+      Debug.resetThreadAllocCount()
+      Debug.resetGlobalAllocCount()
+      for (fix in fixes) {
+        trackingSource.deliver(fix)
+      }
+      val callbackCount = Debug.getThreadAllocCount()
+      val callbackSize = Debug.getThreadAllocSize()
+      awaitUiQueue(context)
+      val processCount = Debug.getGlobalAllocCount()
+      val processSize = Debug.getGlobalAllocSize()
+
+      val stats = await { promise -> module.getEventStats(promise) } as ReadableMap
+      return JSONObject()
+        .put("fixes", fixes.size)
+        .put("mapPerFix", mapPerFix)
+        .put("typedEvents", JSONObject()
+          .put("callbackThread", allocationCounts(callbackCount, callbackSize, fixes.size))
+          .put("process", allocationCounts(processCount, processSize, fixes.size))
+          .put("eventStats", JSONObject(stats.toHashMap())))
+    } finally {
+      Debug.stopAllocCounting()
+    }
+  }
+
+  private fun allocationCounts(count: Int, bytes: Int, fixes: Int): JSONObject =
+    JSONObject()
+      .put("allocationsPerFix", count.toDouble() / fixes)
+      .put("bytesPerFix", bytes.toDouble() / fixes)
+
+  // Writes a road segment file (the RSEG format of loadRoadGraph) along the replayed path:
+  // the road itself, a parallel road close enough to stay a matching candidate, and a cross
+  // street at every other segment.
+  private fun writeRoadFixture(file: File, lengthMeters: Double): File {
+    val segments = ArrayList<DoubleArray>()
+    val step = ROAD_SEGMENT_METERS / METERS_PER_DEGREE
+    val count = ceil(lengthMeters / ROAD_SEGMENT_METERS).toInt()
+    for (i in 0 until count) {
+      val lat1 = START_LATITUDE + i * step
+      val lat2 = lat1 + step
+      segments.add(doubleArrayOf(lat1, START_LONGITUDE, lat2, START_LONGITUDE, 50.0))
+      val parallel = START_LONGITUDE + PARALLEL_ROAD_OFFSET_DEGREES
+      segments.add(doubleArrayOf(lat1, parallel, lat2, parallel, 30.0))
+      if (i % 2 == 0) {
+        segments.add(doubleArrayOf(
+          lat1, START_LONGITUDE - CROSS_STREET_HALF_DEGREES,
+          lat1, START_LONGITUDE + CROSS_STREET_HALF_DEGREES, 30.0,
+        ))
+      }
+    }
+
+    val buffer = ByteBuffer
+      .allocate(RSEG_HEADER_BYTES + segments.size * RSEG_RECORD_BYTES)
+      .order(ByteOrder.LITTLE_ENDIAN)
+    buffer.putInt(RSEG_MAGIC).putInt(RSEG_VERSION).putInt(segments.size)
+    segments.forEachIndexed { id, segment ->
+      buffer.putLong(id.toLong())
+      segment.forEach { buffer.putFloat(it.toFloat()) }
+    }
+    file.writeBytes(buffer.array())
+    return file
+  }
+
+  private fun measureStartup(context: ReactContext, startup: JSONObject): TelematicsSdkModule {
+    val reactContextReadyNanos = SystemClock.elapsedRealtimeNanos()
+    val module = context.getNativeModule(TelematicsSdkModule.NAME) as? TelematicsSdkModule
+      ?: throw IllegalStateException("TelematicsSdkModule is not registered")
+    val moduleResolvedNanos = SystemClock.elapsedRealtimeNanos()
+    await { promise -> module.initializeSdk(promise) }
+    val initializedNanos = SystemClock.elapsedRealtimeNanos()
+
+    val appStartNanos = MainApplication.onCreateElapsedNanos
+    startup
+      .put("processStartToAppCreateMs", appStartNanos / 1e6 - Process.getStartElapsedRealtime())
+      .put("appCreateToReactContextMs", (reactContextReadyNanos - appStartNanos) / 1e6)
+      .put("appCreateToModuleResolvedMs", (moduleResolvedNanos - appStartNanos) / 1e6)
+      .put("moduleResolveMs", (moduleResolvedNanos - reactContextReadyNanos) / 1e6)
+      .put("appCreateToInitializeSdkResolvedMs", (initializedNanos - appStartNanos) / 1e6)
+      .put("initializeSdkMs", (initializedNanos - moduleResolvedNanos) / 1e6)
+    return module
+  }
+
+  // From addListener until the first fix has been emitted to JS, including the module
+  // attaching its location listener. Events are emitted by a drain task on the UI queue
+  // thread, so a task queued after the fix runs right after it.
+  private fun measureFirstEvent(
+    context: ReactContext,
+    module: TelematicsSdkModule,
+    replay: FixReplay,
+  ): JSONObject {
+    val startNanos = System.nanoTime()
+    module.addListener(EVENT_LOCATION_CHANGED)
+    check(trackingSource.deliver(replay.next(0))) { "The module did not attach a location listener" }
+    awaitUiQueue(context)
+    val latencyNanos = System.nanoTime() - startNanos
+    return JSONObject().put("latencyMicros", latencyNanos / 1e3)
+  }
+
+  private fun measureRate(
+    context: ReactContext,
+    module: TelematicsSdkModule,
+    replay: FixReplay,
+    hz: Int,
+  ): JSONObject {
+    await { promise -> module.resetEventStats(promise) }
+
+    val fixCount = hz * replaySeconds
+    val sent = AtomicInteger()
+    val done = CountDownLatch(1)
+    val scheduler = Executors.newSingleThreadScheduledExecutor()
+    val startNanos = System.nanoTime()
+    scheduler.scheduleAtFixedRate({
+      val index = sent.getAndIncrement()
+      if (index < fixCount) {
+        trackingSource.deliver(replay.next(1000L / hz))
+      }
+      if (index + 1 >= fixCount) {
+        done.countDown()
+      }
+    }, 0, 1_000_000L / hz, TimeUnit.MICROSECONDS)
+    done.await()
+    scheduler.shutdownNow()
+    awaitUiQueue(context)
+    val elapsedNanos = System.nanoTime() - startNanos
+
+    val stats = await { promise -> module.getEventStats(promise) } as ReadableMap
+    return JSONObject()
+      .put("targetHz", hz)
+      .put("fixesReplayed", fixCount)
+      .put("elapsedMs", elapsedNanos / 1e6)
+      .put("eventStats", JSONObject(stats.toHashMap()))
+  }
+
+  private fun deviceInfo(): JSONObject =
+    JSONObject()
+      .put("manufacturer", Build.MANUFACTURER)
+      .put("model", Build.MODEL)
+      .put("sdkInt", Build.VERSION.SDK_INT)
+      .put("newArchitecture", BuildConfig.IS_NEW_ARCHITECTURE_ENABLED)
+      .put("hermes", BuildConfig.IS_HERMES_ENABLED)
+      .put("debug", BuildConfig.DEBUG)
+      .put("versionName", BuildConfig.VERSION_NAME)
+      .put("replaySeconds", replaySeconds)
+      .put("timestamp", System.currentTimeMillis())
+
+  private fun awaitUiQueue(context: ReactContext) {
+    val latch = CountDownLatch(1)
+    context.runOnUiQueueThread { latch.countDown() }
+    latch.await()
+  }
+
+  // Runs a promise-based module method synchronously; rejections are rethrown.
+  private fun await(call: (PromiseImpl) -> Unit): Any? {
+    val latch = CountDownLatch(1)
+    var result: Any? = null
+    var error: String? = null
+    call(PromiseImpl(
+      { args -> result = args.firstOrNull(); latch.countDown() },
+      { args -> error = args.firstOrNull()?.toString(); latch.countDown() },
+    ))
+    if (!latch.await(PROMISE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+      throw IllegalStateException("Promise was not settled within $PROMISE_TIMEOUT_SECONDS s")
+    }
+    error?.let { throw IllegalStateException(it) }
+    return result
+  }
+
+  // A straight drive north at a constant speed, so runs are comparable. It follows the road
+  // of the writeRoadFixture file, which every new replay starts at.
+  private class FixReplay {
+    private var timeMs = System.currentTimeMillis()
+    private var lat = START_LATITUDE
+
+    fun next(stepMs: Long): Location {
+      timeMs += stepMs
+      lat += SPEED_MS * stepMs / 1000.0 / METERS_PER_DEGREE
+      return Location("benchmark").also {
+        it.latitude = lat
+        it.longitude = START_LONGITUDE
+        it.time = timeMs
+        it.speed = SPEED_MS.toFloat()
+        it.bearing = 0f
+        it.accuracy = 5f
+      }
+    }
+  }
+
+  // Stands in for the SDK's TrackingApi: holds the listeners the module attaches and hands
+  // them the replayed fixes and tracking state.
+  class ReplayTrackingSource : TrackingSource {
+    @Volatile private var initialized = false
+    @Volatile private var tracking = false
+    @Volatile private var locationListener: TrackingSource.Listener? = null
+    @Volatile private var trackingStateListener: TrackingSource.Listener? = null
+
+    override fun isInitialized(): Boolean = initialized
+
+    override fun initialize() {
+      initialized = true
+    }
+
+    override fun isTracking(): Boolean = tracking
+
+    override fun setLocationListener(listener: TrackingSource.Listener?) {
+      locationListener = listener
+    }
+
+    override fun setTrackingStateListener(listener: TrackingSource.Listener?) {
+      trackingStateListener = listener
+    }
+
+    fun setTracking(tracking: Boolean) {
+      this.tracking = tracking
+      trackingStateListener?.onTrackingStateChanged(tracking)
+    }
+
+    // Returns false when no location listener is attached and the fix was dropped.
+    fun deliver(location: Location): Boolean {
+      val listener = locationListener ?: return false
+      listener.onLocationChanged(location)
+      return true
+    }
+  }
+
+  companion object {
+    private const val TAG = "BridgeBenchmark"
+    private const val REPORT_FILE = "bridge-benchmark.json"
+    private const val EVENT_LOCATION_CHANGED = "onLocationChanged"
+    private const val PROMISE_TIMEOUT_SECONDS = 30L
+    private val REPLAY_FREQUENCIES_HZ = intArrayOf(1, 10, 50)
+    private val TRACKING_PROFILES = listOf("highFidelity", "balanced", "lowPower")
+
+    private const val START_LATITUDE = 52.520008
+    private const val START_LONGITUDE = 13.404954
+    private const val SPEED_MS = 15.0
+    private const val METERS_PER_DEGREE = 111_320.0
+
+    private const val ALLOCATION_FIX_COUNT = 1_000
+    private const val ALLOCATION_STEP_MS = 20L
+
+    private const val ROAD_FIXTURE_FILE = "benchmark-roads.bin"
+    private const val RSEG_MAGIC = 0x47455352 // "RSEG" read as little-endian int32
+    private const val RSEG_VERSION = 1
+    private const val RSEG_HEADER_BYTES = 12
+    private const val RSEG_RECORD_BYTES = 28
+    private const val ROAD_SEGMENT_METERS = 100.0
+    // ~14 m east at this latitude, within the matcher's 30 m candidate radius.
+    private const val PARALLEL_ROAD_OFFSET_DEGREES = 0.0002
+    // ~100 m either side of the road.
+    private const val CROSS_STREET_HALF_DEGREES = 0.0015
+
+    const val EXTRA_BENCHMARK = "benchmark"
+    const val EXTRA_BENCHMARK_SECONDS = "benchmarkSeconds"
+    const val DEFAULT_REPLAY_SECONDS = 10
+
+    val trackingSource = ReplayTrackingSource()
+  }
+}
@@ -1,6 +1,7 @@
 package com.example.reactnativetelematicssdk;
 
 
+import android.os.Bundle
 import com.facebook.react.ReactActivity
 import com.facebook.react.ReactActivityDelegate
 import com.facebook.react.defaults.DefaultNewArchitectureEntryPoint.fabricEnabled
@@ -19,5 +20,31 @@ class MainActivity : ReactActivity() {
    * which allows you to enable New Architecture with a single boolean flags [fabricEnabled]
    */
   override fun createReactActivityDelegate(): ReactActivityDelegate =
-      DefaultReactActivityDelegate(this, mainComponentName, fabricEnabled)
+      object : DefaultReactActivityDelegate(this, mainComponentName, fabricEnabled) {
+        // Tells the app to leave the SDK uninitialized while the benchmark runs.
+        override fun getLaunchOptions(): Bundle? =
+            if (isBenchmark) Bundle().apply { putBoolean(BridgeBenchmark.EXTRA_BENCHMARK, true) }
+            else null
+      }
+
+  private val isBenchmark: Boolean
+    get() = intent.getBooleanExtra(BridgeBenchmark.EXTRA_BENCHMARK, false)
+
+  /**
+   * Starts the [BridgeBenchmark] when launched with `--ez benchmark true`. The replay stand-in
+   * replaces the SDK before the module is created, and a recreated activity does not start a
+   * second run.
+   */
+  override fun onCreate(savedInstanceState: Bundle?) {
+    if (isBenchmark) {
+      MainApplication.benchmarkTrackingSource = BridgeBenchmark.trackingSource
+    }
+    super.onCreate(savedInstanceState)
+    if (isBenchmark && savedInstanceState == null) {
+      val replaySeconds = intent.getIntExtra(
+          BridgeBenchmark.EXTRA_BENCHMARK_SECONDS, BridgeBenchmark.DEFAULT_REPLAY_SECONDS
+      ).coerceAtLeast(1)
+      BridgeBenchmark((application as MainApplication).reactHost, replaySeconds).start()
+    }
+  }
 }
@@ -1,6 +1,7 @@
 package com.example.reactnativetelematicssdk;
 
 import android.app.Application
+import android.os.SystemClock
 import com.facebook.react.PackageList
 import com.facebook.react.ReactApplication
 import com.facebook.react.ReactHost
@@ -11,6 +12,8 @@ import com.facebook.react.defaults.DefaultReactHost.getDefaultReactHost
 import com.facebook.react.defaults.DefaultReactNativeHost
 import com.facebook.soloader.SoLoader
 import com.facebook.react.soloader.OpenSourceMergedSoMapping
+import com.reactnativetelematicssdk.TelematicsSdkPackage
+import com.reactnativetelematicssdk.TrackingSource
 
 class MainApplication : Application(), ReactApplication {
 
@@ -20,6 +23,10 @@ class MainApplication : Application(), ReactApplication {
             PackageList(this).packages.apply {
               // Packages that cannot be autolinked yet can be added manually here, for example:
               // add(MyReactNativePackage())
+              benchmarkTrackingSource?.let { source ->
+                removeAll { it is TelematicsSdkPackage }
+                add(TelematicsSdkPackage(source))
+              }
             }
 
         override fun getJSMainModuleName(): String = "index"
@@ -34,10 +41,25 @@ class MainApplication : Application(), ReactApplication {
     get() = getDefaultReactHost(applicationContext, reactNativeHost)
 
   override fun onCreate() {
+    onCreateElapsedNanos = SystemClock.elapsedRealtimeNanos()
     super.onCreate()
     SoLoader.init(this, OpenSourceMergedSoMapping)
     if (BuildConfig.IS_NEW_ARCHITECTURE_ENABLED) {
       load()
     }
   }
+
+  companion object {
+    /** Start of [onCreate], the reference point of the [BridgeBenchmark] startup timings. */
+    @Volatile
+    var onCreateElapsedNanos = 0L
+      private set
+
+    /**
+     * Set by [MainActivity] in benchmark mode before the React host is created; the module then
+     * takes its tracking from this stand-in instead of the SDK.
+     */
+    @Volatile
+    var benchmarkTrackingSource: TrackingSource? = null
+  }
 }
@@ -26,7 +26,13 @@ import TelematicsSdk, {
 import { Button, Input } from './components';
 import { ClearButton } from './components/ClearButton';
 
-export default function App() {
+type AppProps = {
+  // Set by MainActivity when the Android bridge benchmark runs. The benchmark initializes
+  // and drives the module itself, so the app leaves the SDK alone.
+  benchmark?: boolean;
+};
+
+export default function App({ benchmark = false }: AppProps) {
   const [deviceToken, setDeviceToken] = useState('');
   const [isSdkEnabled, setSdkStatus] = useState(false);
   const [sdkTag, setSdkTag] = useState('');
@@ -48,6 +54,9 @@ export default function App() {
   const [iosAggressiveHeartbeats, setIosAggressiveHeartbeats] = useState(false);
 
   useEffect(() => {
+    if (benchmark) {
+      return;
+    }
     TelematicsSdk.initializeSdk();
     const checkPermissions = async () => {
       const isGranted = await TelematicsSdk.showPermissionWizard(false, false);
@@ -101,7 +110,7 @@ export default function App() {
     return () => {
       subs.forEach((s) => s.remove());
     };
-  }, []);
+  }, [benchmark]);
 
   const showErrorAlert = (error: any) => {
     console.log(error);
@@ -545,6 +545,130 @@ public class TelematicsSdk: RCTEventEmitter {
     reject("PLATFORM_ERROR", "isAndroidAutoStartEnabled is not available on iOS", nil)
   }
 
+  @objc(setTrackingProfile:resolve:reject:)
+  public func setTrackingProfile(
+    _ profile: String,
+    resolve: @escaping RCTPromiseResolveBlock,
+    reject: @escaping RCTPromiseRejectBlock
+  ) {
+    reject("PLATFORM_ERROR", "setTrackingProfile is not available on iOS", nil)
+  }
+
+  @objc(getTrackingProfile:reject:)
+  public func getTrackingProfile(
+    _ resolve: @escaping RCTPromiseResolveBlock,
+    reject: @escaping RCTPromiseRejectBlock
+  ) {
+    reject("PLATFORM_ERROR", "getTrackingProfile is not available on iOS", nil)
+  }
+
+  @objc(setLocationBatchSize:resolve:reject:)
+  public func setLocationBatchSize(
+    _ size: Double,
+    resolve: @escaping RCTPromiseResolveBlock,
+    reject: @escaping RCTPromiseRejectBlock
+  ) {
+    reject("PLATFORM_ERROR", "setLocationBatchSize is not available on iOS", nil)
+  }
+
+  @objc(flushLocationBatch:reject:)
+  public func flushLocationBatch(
+    _ resolve: @escaping RCTPromiseResolveBlock,
+    reject: @escaping RCTPromiseRejectBlock
+  ) {
+    reject("PLATFORM_ERROR", "flushLocationBatch is not available on iOS", nil)
+  }
+
+  @objc(getTagQueueState:reject:)
+  public func getTagQueueState(
+    _ resolve: @escaping RCTPromiseResolveBlock,
+    reject: @escaping RCTPromiseRejectBlock
+  ) {
+    reject("PLATFORM_ERROR", "getTagQueueState is not available on iOS", nil)
+  }
+
+  @objc(replayTagMutations:reject:)
+  public func replayTagMutations(
+    _ resolve: @escaping RCTPromiseResolveBlock,
+    reject: @escaping RCTPromiseRejectBlock
+  ) {
+    reject("PLATFORM_ERROR", "replayTagMutations is not available on iOS", nil)
+  }
+
+  @objc(loadRoadGraph:resolve:reject:)
+  public func loadRoadGraph(
+    _ path: String,
+    resolve: @escaping RCTPromiseResolveBlock,
+    reject: @escaping RCTPromiseRejectBlock
+  ) {
+    reject("PLATFORM_ERROR", "loadRoadGraph is not available on iOS", nil)
+  }
+
+  @objc(clearRoadGraph:reject:)
+  public func clearRoadGraph(
+    _ resolve: @escaping RCTPromiseResolveBlock,
+    reject: @escaping RCTPromiseRejectBlock
+  ) {
+    reject("PLATFORM_ERROR", "clearRoadGraph is not available on iOS", nil)
+  }
+
+  @objc(getRecentTripSummaries:reject:)
+  public func getRecentTripSummaries(
+    _ resolve: @escaping RCTPromiseResolveBlock,
+    reject: @escaping RCTPromiseRejectBlock
+  ) {
+    reject("PLATFORM_ERROR", "getRecentTripSummaries is not available on iOS", nil)
+  }
+
+  @objc(getTripSummary:resolve:reject:)
+  public func getTripSummary(
+    _ tripId: String,
+    resolve: @escaping RCTPromiseResolveBlock,
+    reject: @escaping RCTPromiseRejectBlock
+  ) {
+    reject("PLATFORM_ERROR", "getTripSummary is not available on iOS", nil)
+  }
+
+  @objc(configurePreEventBuffer:resolve:reject:)
+  public func configurePreEventBuffer(
+    _ windowSeconds: Double,
+    resolve: @escaping RCTPromiseResolveBlock,
+    reject: @escaping RCTPromiseRejectBlock
+  ) {
+    reject("PLATFORM_ERROR", "configurePreEventBuffer is not available on iOS", nil)
+  }
+
+  @objc(capturePreEventBuffer:resolve:reject:)
+  public func capturePreEventBuffer(
+    _ reason: String,
+    resolve: @escaping RCTPromiseResolveBlock,
+    reject: @escaping RCTPromiseRejectBlock
+  ) {
+    reject("PLATFORM_ERROR", "capturePreEventBuffer is not available on iOS", nil)
+  }
+
+  @objc(getEventStats:reject:)
+  public func getEventStats(
+    _ resolve: @escaping RCTPromiseResolveBlock,
+    reject: @escaping RCTPromiseRejectBlock
+  ) {
+    reject("PLATFORM_ERROR", "getEventStats is not available on iOS", nil)
+  }
+
+  @objc(resetEventStats:reject:)
+  public func resetEventStats(
+    _ resolve: @escaping RCTPromiseResolveBlock,
+    reject: @escaping RCTPromiseRejectBlock
+  ) {
+    reject("PLATFORM_ERROR", "resetEventStats is not available on iOS", nil)
+  }
+
+  // MARK: - Events
+
+  /// Subscriber bookkeeping is handled by RCTEventEmitter via start/stopObserving on iOS.
+  @objc(removeEventListener:)
+  public func removeEventListener(_ eventName: String) {}
+
   // MARK: - Helpers
 
   private func deviceIdRegistrationStatusString(
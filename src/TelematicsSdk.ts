@@ -1,11 +1,16 @@
+import { Platform } from 'react-native';
 import type {
   AccidentDetectionSensitivity,
   ApiLanguage,
   DeviceIdRegistrationState,
+  EventStats,
+  LocationBatch,
   Tag,
+  TagQueueState,
   TrackingState,
+  TripSummary,
 } from './types';
-import { TrackingMode } from './types';
+import { TrackingMode, TrackingProfile } from './types';
 import { getNativeTelematicsSdk } from './createTelematicsSdk';
 
 /**
@@ -27,8 +32,10 @@ export interface TelematicsSdk {
    * Initializes the native SDK.
    *
    * This is typically the first call you make before using any other API.
+   *
+   * @param profile Android only: tracking profile used for the SDK settings. Ignored on iOS.
    */
-  initializeSdk(): Promise<void>;
+  initializeSdk(profile?: TrackingProfile): Promise<void>;
 
   /** Returns whether the native SDK is initialized. */
   isInitializedSdk(): Promise<boolean>;
@@ -156,24 +163,30 @@ export interface TelematicsSdk {
   /**
    * Adds a Future Track tag.
    *
+   * On Android an `Offline` result is queued natively and replayed when connectivity
+   * returns; `queued` is then `true`.
+   *
    * @param tag Tag identifier.
    * @param source Optional source string (e.g. feature/module name).
    */
   addFutureTrackTag(
     tag: string,
     source?: string
-  ): Promise<{ status: string; tag: Tag }>;
+  ): Promise<{ status: string; tag: Tag; queued?: boolean }>;
 
   /**
    * Removes a Future Track tag.
    *
+   * On Android an `Offline` result is queued natively and replayed when connectivity
+   * returns; `queued` is then `true`.
+   *
    * @param tag Tag identifier.
    * @param source Optional source string. Android accepts it for API compatibility and removes by tag.
    */
   removeFutureTrackTag(
     tag: string,
     source?: string
-  ): Promise<{ status: string; tag: Tag }>;
+  ): Promise<{ status: string; tag: Tag; queued?: boolean }>;
 
   /** Removes all Future Track tags. */
   removeAllFutureTrackTags(): Promise<string>;
@@ -232,6 +245,86 @@ export interface TelematicsSdk {
 
   /** Android only: returns whether SDK autostart is enabled. */
   isAndroidAutoStartEnabled(): Promise<boolean>;
+
+  /**
+   * Android only: selects a tracking profile and persists it across app restarts.
+   *
+   * The minimum interval between location events changes immediately (none for
+   * `highFidelity`; pending fixes are still coalesced under every profile). The SDK cannot
+   * change its accuracy and stop timeout once initialized, so these apply when the SDK is
+   * initialized in the next app process.
+   *
+   * @returns `true` when the SDK was not initialized yet, so its settings already use the
+   * profile; `false` when they take effect after the next app start.
+   */
+  setTrackingProfile(profile: TrackingProfile): Promise<boolean>;
+
+  /** Android only: returns the active tracking profile. */
+  getTrackingProfile(): Promise<TrackingProfile>;
+
+  /**
+   * Android only: delivers fixes in packed binary batches of `size` fixes through
+   * {@link addOnLocationBatchListener}. Batches are also flushed when tracking stops.
+   *
+   * @param size Fixes per batch, up to 1000; `0` disables batching.
+   */
+  setLocationBatchSize(size: number): Promise<void>;
+
+  /** Android only: emits buffered fixes as a batch right away. */
+  flushLocationBatch(): Promise<void>;
+
+  /** Android only: returns depth and replay progress of the offline tag mutation queue. */
+  getTagQueueState(): Promise<TagQueueState>;
+
+  /** Android only: resumes replaying queued tag mutations without waiting for a reconnect. */
+  replayTagMutations(): Promise<void>;
+
+  /**
+   * Android only: loads a road segment file from local storage and snaps subsequent
+   * `onLocationChanged` fixes to it, adding `roadSegmentId` and `roadSpeedLimit`.
+   *
+   * The file is little-endian: int32 magic `RSEG`, int32 version `1`, int32 count, then
+   * per segment int64 id, float32 lat1, lon1, lat2, lon2 and float32 speed limit in km/h.
+   *
+   * @returns The number of loaded segments.
+   */
+  loadRoadGraph(path: string): Promise<number>;
+
+  /** Android only: unloads the road graph and stops snapping fixes. */
+  clearRoadGraph(): Promise<void>;
+
+  /**
+   * Android only: returns the trip summaries kept in memory (up to 20), most recently used first.
+   *
+   * Trips are aggregated only while an {@link addOnTripSummaryListener} subscription exists.
+   */
+  getRecentTripSummaries(): Promise<TripSummary[]>;
+
+  /** Android only: returns a kept trip summary by id, or `null` when it was evicted. */
+  getTripSummary(id: string): Promise<TripSummary | null>;
+
+  /** Android only: returns location event throughput and emit cost since the last reset. */
+  getEventStats(): Promise<EventStats>;
+
+  /** Android only: resets the counters returned by {@link TelematicsSdk.getEventStats}. */
+  resetEventStats(): Promise<void>;
+
+  /**
+   * Android only: keeps the last `windowSeconds` of fixes in a fixed-size native buffer and
+   * sends them through {@link addOnAccidentContextListener} when a harsh braking is detected
+   * or {@link TelematicsSdk.capturePreEventBuffer} is called.
+   *
+   * @param windowSeconds Seconds of fixes to keep, up to 60; `0` disables the buffer.
+   */
+  configurePreEventBuffer(windowSeconds: number): Promise<void>;
+
+  /**
+   * Android only: sends the buffered fixes right away, e.g. when an accident is reported
+   * by the server.
+   *
+   * @returns `false` when the buffer is empty or nobody listens for accident context.
+   */
+  capturePreEventBuffer(reason: string): Promise<boolean>;
 }
 
 /** Creates a high-level JS wrapper around the native Telematics SDK module. */
@@ -244,7 +337,10 @@ class TelematicsSdkImpl implements TelematicsSdk {
     return getNativeTelematicsSdk();
   }
 
-  initializeSdk() {
+  async initializeSdk(profile?: TrackingProfile) {
+    if (profile != null && Platform.OS === 'android') {
+      await this.native.setTrackingProfile(profile);
+    }
     return this.native.initializeSdk();
   }
   isInitializedSdk() {
@@ -349,12 +445,14 @@ class TelematicsSdkImpl implements TelematicsSdk {
     return this.native.addFutureTrackTag(tag, source ?? null) as Promise<{
       status: string;
       tag: Tag;
+      queued?: boolean;
     }>;
   }
   removeFutureTrackTag(tag: string, source?: string) {
     return this.native.removeFutureTrackTag(tag, source ?? null) as Promise<{
       status: string;
       tag: Tag;
+      queued?: boolean;
     }>;
   }
   removeAllFutureTrackTags() {
@@ -408,4 +506,125 @@ class TelematicsSdkImpl implements TelematicsSdk {
   isAndroidAutoStartEnabled() {
     return this.native.isAndroidAutoStartEnabled();
   }
+  setTrackingProfile(profile: TrackingProfile) {
+    return this.native.setTrackingProfile(profile);
+  }
+  getTrackingProfile() {
+    return this.native.getTrackingProfile() as Promise<TrackingProfile>;
+  }
+  setLocationBatchSize(size: number) {
+    return this.native.setLocationBatchSize(size);
+  }
+  flushLocationBatch() {
+    return this.native.flushLocationBatch();
+  }
+  getTagQueueState() {
+    return this.native.getTagQueueState() as Promise<TagQueueState>;
+  }
+  replayTagMutations() {
+    return this.native.replayTagMutations();
+  }
+  loadRoadGraph(path: string) {
+    return this.native.loadRoadGraph(path);
+  }
+  clearRoadGraph() {
+    return this.native.clearRoadGraph();
+  }
+  getRecentTripSummaries() {
+    return this.native.getRecentTripSummaries() as Promise<TripSummary[]>;
+  }
+  getTripSummary(id: string) {
+    return this.native.getTripSummary(id) as Promise<TripSummary | null>;
+  }
+  getEventStats() {
+    return this.native.getEventStats() as Promise<EventStats>;
+  }
+  resetEventStats() {
+    return this.native.resetEventStats();
+  }
+  configurePreEventBuffer(windowSeconds: number) {
+    return this.native.configurePreEventBuffer(windowSeconds);
+  }
+  capturePreEventBuffer(reason: string) {
+    return this.native.capturePreEventBuffer(reason);
+  }
+}
+
+const LOCATION_BATCH_VERSION = 1;
+const LOCATION_BATCH_HEADER_BYTES = 24;
+const LOCATION_BATCH_RECORD_BYTES = 12;
+const FIXED_POINT_SCALE = 1e7;
+
+const BASE64_ALPHABET =
+  'ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/';
+const BASE64_LOOKUP = new Uint8Array(128);
+for (let i = 0; i < BASE64_ALPHABET.length; i++) {
+  BASE64_LOOKUP[BASE64_ALPHABET.charCodeAt(i)] = i;
+}
+
+function base64ToBytes(encoded: string): Uint8Array {
+  let padding = 0;
+  if (encoded.endsWith('==')) {
+    padding = 2;
+  } else if (encoded.endsWith('=')) {
+    padding = 1;
+  }
+  const bytes = new Uint8Array((encoded.length * 3) / 4 - padding);
+
+  let offset = 0;
+  for (let i = 0; i < encoded.length; i += 4) {
+    const chunk =
+      (BASE64_LOOKUP[encoded.charCodeAt(i)] << 18) |
+      (BASE64_LOOKUP[encoded.charCodeAt(i + 1)] << 12) |
+      (BASE64_LOOKUP[encoded.charCodeAt(i + 2)] << 6) |
+      BASE64_LOOKUP[encoded.charCodeAt(i + 3)];
+    bytes[offset++] = (chunk >> 16) & 0xff;
+    if (offset < bytes.length) bytes[offset++] = (chunk >> 8) & 0xff;
+    if (offset < bytes.length) bytes[offset++] = chunk & 0xff;
+  }
+  return bytes;
+}
+
+/**
+ * Decodes one base64 `onLocationBatch` payload into typed arrays.
+ *
+ * The payload holds the first fix as absolute values followed by int32 deltas
+ * (latitude/longitude in degrees * 1e7, time in ms) for every following fix.
+ */
+export function decodeLocationBatch(encoded: string): LocationBatch {
+  const bytes = base64ToBytes(encoded);
+  const view = new DataView(bytes.buffer, bytes.byteOffset, bytes.byteLength);
+
+  const version = view.getInt32(0, true);
+  if (version !== LOCATION_BATCH_VERSION) {
+    throw new Error(`Unsupported location batch version: ${version}`);
+  }
+  const count = view.getInt32(4, true);
+  const latitude = new Float64Array(count);
+  const longitude = new Float64Array(count);
+  const timestamp = new Float64Array(count);
+  if (count === 0) {
+    return { latitude, longitude, timestamp };
+  }
+
+  let time = view.getFloat64(8, true);
+  let lat = view.getInt32(16, true);
+  let lon = view.getInt32(20, true);
+  latitude[0] = lat / FIXED_POINT_SCALE;
+  longitude[0] = lon / FIXED_POINT_SCALE;
+  timestamp[0] = time;
+
+  let offset = LOCATION_BATCH_HEADER_BYTES;
+  for (let i = 1; i < count; i++) {
+    // The encoder subtracts in int32, so a step across ±180° longitude wraps around;
+    // accumulating with the same wrap restores the exact value.
+    lat = (lat + view.getInt32(offset, true)) | 0;
+    lon = (lon + view.getInt32(offset + 4, true)) | 0;
+    time += view.getInt32(offset + 8, true);
+    latitude[i] = lat / FIXED_POINT_SCALE;
+    longitude[i] = lon / FIXED_POINT_SCALE;
+    timestamp[i] = time;
+    offset += LOCATION_BATCH_RECORD_BYTES;
+  }
+  return { latitude, longitude, timestamp };
 }
@@ -0,0 +1,95 @@
+import { decodeLocationBatch } from '../TelematicsSdk';
+
+type Fix = { latitude: number; longitude: number; timestamp: number };
+
+const FIXED_POINT_SCALE = 1e7;
+const BASE64_ALPHABET =
+  'ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/';
+
+function toBase64(buffer: ArrayBuffer): string {
+  const bytes = new Uint8Array(buffer);
+  let out = '';
+  for (let i = 0; i < bytes.length; i += 3) {
+    const remaining = bytes.length - i;
+    const chunk =
+      (bytes[i] << 16) |
+      ((remaining > 1 ? bytes[i + 1] : 0) << 8) |
+      (remaining > 2 ? bytes[i + 2] : 0);
+    out += BASE64_ALPHABET[(chunk >> 18) & 63];
+    out += BASE64_ALPHABET[(chunk >> 12) & 63];
+    out += remaining > 1 ? BASE64_ALPHABET[(chunk >> 6) & 63] : '=';
+    out += remaining > 2 ? BASE64_ALPHABET[chunk & 63] : '=';
+  }
+  return out;
+}
+
+// Mirrors LocationBatchEncoder.encode on Android, including its int32 delta arithmetic.
+function encode(fixes: Fix[]): string {
+  const lat = fixes.map((f) => Math.round(f.latitude * FIXED_POINT_SCALE));
+  const lon = fixes.map((f) => Math.round(f.longitude * FIXED_POINT_SCALE));
+  const bytes = new ArrayBuffer(24 + Math.max(0, fixes.length - 1) * 12);
+  const view = new DataView(bytes);
+  view.setInt32(0, 1, true);
+  view.setInt32(4, fixes.length, true);
+  if (fixes.length > 0) {
+    view.setFloat64(8, fixes[0].timestamp, true);
+    view.setInt32(16, lat[0], true);
+    view.setInt32(20, lon[0], true);
+  }
+  let offset = 24;
+  for (let i = 1; i < fixes.length; i++) {
+    view.setInt32(offset, (lat[i] - lat[i - 1]) | 0, true);
+    view.setInt32(offset + 4, (lon[i] - lon[i - 1]) | 0, true);
+    view.setInt32(offset + 8, fixes[i].timestamp - fixes[i - 1].timestamp, true);
+    offset += 12;
+  }
+  return toBase64(bytes);
+}
+
+function expectRoundTrip(fixes: Fix[]) {
+  const batch = decodeLocationBatch(encode(fixes));
+  expect(batch.latitude).toHaveLength(fixes.length);
+  fixes.forEach((fix, i) => {
+    expect(batch.latitude[i]).toBeCloseTo(fix.latitude, 7);
+    expect(batch.longitude[i]).toBeCloseTo(fix.longitude, 7);
+    expect(batch.timestamp[i]).toBe(fix.timestamp);
+  });
+}
+
+describe('decodeLocationBatch', () => {
+  it('decodes an empty batch', () => {
+    expectRoundTrip([]);
+  });
+
+  it('decodes deltas relative to the previous fix', () => {
+    expectRoundTrip([
+      { latitude: 52.520008, longitude: 13.404954, timestamp: 1_700_000_000_000 },
+      { latitude: 52.520143, longitude: 13.404954, timestamp: 1_700_000_001_000 },
+      { latitude: 52.519871, longitude: 13.40512, timestamp: 1_700_000_001_020 },
+    ]);
+  });
+
+  it('decodes steps across the antimeridian in both directions', () => {
+    expectRoundTrip([
+      { latitude: -16.5, longitude: 179.99, timestamp: 1_700_000_000_000 },
+      { latitude: -16.5001, longitude: -179.99, timestamp: 1_700_000_001_000 },
+      { latitude: -16.5002, longitude: 180, timestamp: 1_700_000_002_000 },
+      { latitude: -16.5003, longitude: -180, timestamp: 1_700_000_003_000 },
+    ]);
+  });
+
+  it('decodes the extreme coordinates', () => {
+    expectRoundTrip([
+      { latitude: 90, longitude: -180, timestamp: 0 },
+      { latitude: -90, longitude: 180, timestamp: 1 },
+    ]);
+  });
+
+  it('rejects an unknown version', () => {
+    const bytes = new Uint8Array(24);
+    bytes[0] = 2;
+    expect(() => decodeLocationBatch(toBase64(bytes.buffer))).toThrow(
+      'Unsupported location batch version: 2'
+    );
+  });
+});
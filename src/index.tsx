@@ -12,16 +12,24 @@
  * - Android-only methods/listeners throw an `Error` when called on a non-Android platform.
  */
 import { NativeEventEmitter, Platform } from 'react-native';
+import type { EmitterSubscription } from 'react-native';
 import { getNativeTelematicsSdk } from './createTelematicsSdk';
-import { createTelematicsSdk } from './TelematicsSdk';
+import { createTelematicsSdk, decodeLocationBatch } from './TelematicsSdk';
 import type { TelematicsSdk } from './TelematicsSdk';
 import {
   AccidentDetectionSensitivity,
   ApiLanguage,
   DeviceIdRegistrationStatus,
   TrackingMode,
+  TrackingProfile,
   TrackingStatus,
 } from './types';
+import type {
+  AccidentContext,
+  LocationBatch,
+  TagQueueState,
+  TripSummary,
+} from './types';
 
 const NativeTelematicsSdk = getNativeTelematicsSdk();
 
@@ -30,9 +38,20 @@ export {
   ApiLanguage,
   DeviceIdRegistrationStatus,
   TrackingMode,
+  TrackingProfile,
   TrackingStatus,
 };
-export type { DeviceIdRegistrationState, TrackingState } from './types';
+export { decodeLocationBatch };
+export type {
+  AccidentContext,
+  DeviceIdRegistrationState,
+  EventLaneStats,
+  EventStats,
+  LocationBatch,
+  TagQueueState,
+  TrackingState,
+  TripSummary,
+} from './types';
 
 export type LowPowerModeEvent = {
   enabled: boolean;
@@ -41,6 +60,10 @@ export type LowPowerModeEvent = {
 export type LocationChangedEvent = {
   latitude: number;
   longitude: number;
+  /** Android only: id of the matched road segment, when a road graph is loaded. */
+  roadSegmentId?: string;
+  /** Android only: speed limit of the matched road segment in km/h. */
+  roadSpeedLimit?: number;
 };
 
 export type SpeedViolationEvent = {
@@ -61,25 +84,47 @@ export default telematicsSdk;
 
 const telematicsEmitter = new NativeEventEmitter(NativeTelematicsSdk);
 
+/**
+ * Subscribes to a native event and reports the removal back by event name,
+ * so the native side keeps SDK listeners attached only while they are in use.
+ */
+function addTelematicsListener<T>(
+  eventName: string,
+  handler: (event: T) => void
+): EmitterSubscription {
+  const subscription = telematicsEmitter.addListener(eventName, handler);
+  const remove = subscription.remove.bind(subscription);
+  let removed = false;
+  subscription.remove = () => {
+    if (removed) {
+      return;
+    }
+    removed = true;
+    remove();
+    NativeTelematicsSdk.removeEventListener(eventName);
+  };
+  return subscription;
+}
+
 export function addOnLowPowerModeListener(
   handler: (event: LowPowerModeEvent) => void
 ) {
   if (Platform.OS !== 'ios') {
     throw new Error('addOnLowPowerModeListener is only available on iOS.');
   }
-  return telematicsEmitter.addListener('onLowPowerMode', handler);
+  return addTelematicsListener('onLowPowerMode', handler);
 }
 
 export function addOnLocationChangedListener(
   handler: (event: LocationChangedEvent) => void
 ) {
-  return telematicsEmitter.addListener('onLocationChanged', handler);
+  return addTelematicsListener('onLocationChanged', handler);
 }
 
 export function addOnTrackingStateChangedListener(
   handler: (state: boolean) => void
 ) {
-  return telematicsEmitter.addListener('onTrackingStateChanged', handler);
+  return addTelematicsListener('onTrackingStateChanged', handler);
 }
 
 export function addOnWrongAccuracyAuthorizationListener(handler: () => void) {
@@ -88,18 +133,61 @@ export function addOnWrongAccuracyAuthorizationListener(handler: () => void) {
       'addOnWrongAccuracyAuthorizationListener is only available on iOS.'
     );
   }
-  return telematicsEmitter.addListener('onWrongAccuracyAuthorization', handler);
+  return addTelematicsListener('onWrongAccuracyAuthorization', handler);
 }
 
 export function addOnRtldColectedData(handler: () => void) {
   if (Platform.OS !== 'ios') {
     throw new Error('addOnRtldColectedData is only available on iOS.');
   }
-  return telematicsEmitter.addListener('onRtldColectedData', handler);
+  return addTelematicsListener('onRtldColectedData', handler);
 }
 
 export function addOnSpeedViolationListener(
   handler: (event: SpeedViolationEvent) => void
 ) {
-  return telematicsEmitter.addListener('onSpeedViolation', handler);
+  return addTelematicsListener('onSpeedViolation', handler);
+}
+
+export function addOnLocationBatchListener(
+  handler: (batch: LocationBatch) => void
+) {
+  if (Platform.OS !== 'android') {
+    throw new Error('addOnLocationBatchListener is only available on Android.');
+  }
+  return addTelematicsListener<string>('onLocationBatch', (encoded) =>
+    handler(decodeLocationBatch(encoded))
+  );
+}
+
+export function addOnTripSummaryListener(
+  handler: (summary: TripSummary) => void
+) {
+  if (Platform.OS !== 'android') {
+    throw new Error('addOnTripSummaryListener is only available on Android.');
+  }
+  return addTelematicsListener('onTripSummary', handler);
+}
+
+export function addOnTagQueueChangedListener(
+  handler: (state: TagQueueState) => void
+) {
+  if (Platform.OS !== 'android') {
+    throw new Error('addOnTagQueueChangedListener is only available on Android.');
+  }
+  return addTelematicsListener('onTagQueueChanged', handler);
+}
+
+export function addOnAccidentContextListener(
+  handler: (context: AccidentContext) => void
+) {
+  if (Platform.OS !== 'android') {
+    throw new Error('addOnAccidentContextListener is only available on Android.');
+  }
+  // Fixes arrive as a base64 location batch, like onLocationBatch.
+  type AccidentContextEvent = Omit<AccidentContext, 'fixes'> & { fixes: string };
+  return addTelematicsListener<AccidentContextEvent>(
+    'onAccidentContext',
+    (event) => handler({ ...event, fixes: decodeLocationBatch(event.fixes) })
+  );
 }
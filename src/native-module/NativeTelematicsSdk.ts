@@ -129,12 +129,42 @@ export interface Spec extends TurboModule {
   ): Promise<void>;
   /** Android only: returns whether SDK autostart is enabled. */
   isAndroidAutoStartEnabled(): Promise<boolean>;
+  /** Android only: selects and persists the named tracking profile; true when its SDK settings are in use now. */
+  setTrackingProfile(profile: string): Promise<boolean>;
+  /** Android only: returns the name of the active tracking profile. */
+  getTrackingProfile(): Promise<string>;
+  /** Android only: sets the number of fixes per binary `onLocationBatch` event; 0 disables batching. */
+  setLocationBatchSize(size: Int32): Promise<void>;
+  /** Android only: emits buffered fixes as an `onLocationBatch` event right away. */
+  flushLocationBatch(): Promise<void>;
+  /** Android only: returns depth and replay progress of the offline tag mutation queue. */
+  getTagQueueState(): Promise<Object>;
+  /** Android only: resumes replaying queued tag mutations right away. */
+  replayTagMutations(): Promise<void>;
+  /** Android only: loads a road segment file and returns the number of segments. */
+  loadRoadGraph(path: string): Promise<Double>;
+  /** Android only: unloads the road graph and stops snapping fixes. */
+  clearRoadGraph(): Promise<void>;
+  /** Android only: returns the most recently used trip summaries, most recent first. */
+  getRecentTripSummaries(): Promise<Object[]>;
+  /** Android only: returns a kept trip summary by id, or null when it was evicted. */
+  getTripSummary(id: string): Promise<Object | null>;
+  /** Android only: returns location event throughput and emit cost since the last reset. */
+  getEventStats(): Promise<Object>;
+  /** Android only: resets the counters returned by getEventStats. */
+  resetEventStats(): Promise<void>;
+  /** Android only: keeps the last `windowSeconds` of fixes for `onAccidentContext`; 0 disables it. */
+  configurePreEventBuffer(windowSeconds: Int32): Promise<void>;
+  /** Android only: emits the buffered fixes as `onAccidentContext`; false when nothing was sent. */
+  capturePreEventBuffer(reason: string): Promise<boolean>;
 
   // Events (required by NativeEventEmitter)
   /** Registers an event listener on the native side. */
   addListener(eventName: string): void;
   /** Removes event listeners on the native side. */
   removeListeners(count: Double): void;
+  /** Releases one subscriber of the given event so unused native listeners can be detached. */
+  removeEventListener(eventName: string): void;
 }
 
 export default TurboModuleRegistry.get<Spec>('TelematicsSdk');
@@ -17,6 +17,75 @@ export enum TrackingMode {
   Persistent = 1,
 }
 
+export enum TrackingProfile {
+  HighFidelity = 'highFidelity',
+  Balanced = 'balanced',
+  LowPower = 'lowPower',
+}
+
+/** Delivery counts and latency from the native callback to the JS emit for one event lane. */
+export type EventLaneStats = {
+  delivered: number;
+  /** Events replaced by a newer one before delivery (location lane only). */
+  coalesced: number;
+  averageLatencyMicros: number;
+  maxLatencyMicros: number;
+};
+
+export type EventStats = {
+  profile: TrackingProfile;
+  elapsedMs: number;
+  /** Fixes posted for delivery after profile throttling. */
+  locationEventsEnqueued: number;
+  /** Location events JS actually received; lower than enqueued when pending fixes are coalesced. */
+  locationEventsDelivered: number;
+  locationEventsThrottled: number;
+  /** Delivered location events per second. */
+  locationEventsPerSecond: number;
+  /** Native cost per enqueued fix (road matching and queuing; the payload is written at delivery). */
+  averageEmitMicros: number;
+  /**
+   * Events are delivered in lane order: `critical` (tracking state, speed violations,
+   * accident-related events), then `standard` (batches, trip summaries), then `location`.
+   */
+  lanes: {
+    critical: EventLaneStats;
+    standard: EventLaneStats;
+    location: EventLaneStats;
+  };
+};
+
+/** Fixes decoded from one binary `onLocationBatch` event, in arrival order. */
+export type LocationBatch = {
+  latitude: Float64Array;
+  longitude: Float64Array;
+  /** Milliseconds since epoch. */
+  timestamp: Float64Array;
+};
+
+/** Aggregates of one completed trip, built natively from tracking callbacks. */
+export type TripSummary = {
+  id: string;
+  /** Milliseconds since epoch. */
+  startTime: number;
+  /** Milliseconds since epoch. */
+  endTime: number;
+  durationMs: number;
+  fixCount: number;
+  distanceMeters: number;
+  /** km/h over the non-idle part of the trip. */
+  averageSpeed: number;
+  /** km/h. */
+  maxSpeed: number;
+  idleTimeMs: number;
+  minLatitude: number;
+  minLongitude: number;
+  maxLatitude: number;
+  maxLongitude: number;
+  startGeohash: string;
+  endGeohash: string;
+};
+
 export enum DeviceIdRegistrationStatus {
   NotSet = 'NOT_SET',
   Unknown = 'UNKNOWN',
@@ -48,3 +117,31 @@ export type Tag = {
   tag: string;
   source?: string;
 };
+
+/** Lead-up trajectory of an Android accident context event, taken from the pre-event buffer. */
+export type AccidentContext = {
+  /** `harshBraking` when detected natively, otherwise the reason passed to capturePreEventBuffer. */
+  reason: string;
+  /** Milliseconds since epoch. */
+  detectedAt: number;
+  windowSeconds: number;
+  /** Fixes of the window, oldest first. */
+  fixes: LocationBatch;
+  fixCount: number;
+  /** km/h over the window. */
+  maxSpeed: number;
+  /** km/h at the newest fix. */
+  lastSpeed: number;
+};
+
+/** State of the Android offline Future Track tag mutation queue. */
+export type TagQueueState = {
+  /** Pending mutations after collapsing redundant add/remove pairs. */
+  depth: number;
+  /** Whether a queued mutation is currently being sent to the SDK. */
+  replaying: boolean;
+  /** Mutations delivered from the queue since app start. */
+  replayed: number;
+  /** Milliseconds since epoch of the last delivered mutation, or `0`. */
+  lastReplayedAt: number;
+};